@@ -0,0 +1,78 @@
+package com.bobocode;
+
+import com.bobocode.model.Account;
+import com.bobocode.model.Sex;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+/**
+ * {@link BenchmarkData} generates deterministic input data for benchmarks. The same size always produces the same data,
+ * so results of different runs can be compared with each other.
+ */
+class BenchmarkData {
+    private static final long SEED = 42;
+    private static final String[] WORDS = {"lambda", "stream", "queue", "list", "node", "file", "statistic", "reader",
+            "the", "of", "and", "java", "character", "benchmark", "a", "is"};
+    private static final String[] FIRST_NAMES = {"Polly", "Dylan", "Clark", "Mary", "John", "Rhea", "Nina", "Oscar"};
+    private static final String[] LAST_NAMES = {"Smith", "Brown", "Wilson", "Taylor", "Davies", "Evans", "Thomas"};
+    private static final String[] EMAIL_DOMAINS = {"gmail.com", "yahoo.com", "ukr.net", "bobocode.com"};
+
+    private BenchmarkData() {
+    }
+
+    static Integer[] integers(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Integer[] integers = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            integers[i] = random.nextInt();
+        }
+        return integers;
+    }
+
+    /**
+     * Writes a text file of approximately provided number of characters that consists of words and line separators.
+     *
+     * @param numberOfChars approximate number of characters in the file
+     * @return path of a temporary file that is deleted on JVM exit
+     */
+    static Path textFile(int numberOfChars) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        StringBuilder text = new StringBuilder(numberOfChars + 16);
+        while (text.length() < numberOfChars) {
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+            text.append(random.nextInt(10) == 0 ? '\n' : ' ');
+        }
+        try {
+            Path file = Files.createTempFile("benchmark-" + numberOfChars + "-", ".txt");
+            file.toFile().deleteOnExit();
+            return Files.write(file, text.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static java.util.List<Account> accounts(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        java.util.List<Account> accounts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String email = firstName.toLowerCase() + "." + i + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)];
+            LocalDate birthday = LocalDate.of(1950 + random.nextInt(50), Month.of(1 + random.nextInt(12)), 1 + random.nextInt(28));
+            LocalDate creationDate = LocalDate.of(2010 + random.nextInt(10), Month.of(1 + random.nextInt(12)), 1 + random.nextInt(28));
+            Sex sex = random.nextBoolean() ? Sex.MALE : Sex.FEMALE;
+            BigDecimal balance = BigDecimal.valueOf(random.nextInt(200_000));
+            accounts.add(new Account((long) i, firstName, lastName, email, birthday, sex, creationDate, balance));
+        }
+        return accounts;
+    }
+}
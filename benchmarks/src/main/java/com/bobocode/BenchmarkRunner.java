@@ -0,0 +1,50 @@
+package com.bobocode;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+
+/**
+ * {@link BenchmarkRunner} runs benchmarks once per each configured number of threads and always attaches
+ * {@link GCProfiler}, so every result contains throughput, average time and allocation rate.
+ * <p>
+ * Supported system properties:
+ * <ul>
+ * <li>{@code threads} - comma-separated thread counts, default is {@code 1,2,4,8}</li>
+ * <li>{@code size} - comma-separated collection sizes that override {@code @Param} values</li>
+ * </ul>
+ * Program arguments are regular expressions of benchmarks to include, all benchmarks are run if there are none.
+ * <p>
+ * E.g. {@code java -Dthreads=1,4 -Dsize=1000 -jar benchmarks/target/benchmarks.jar LinkedListBenchmark}
+ */
+public class BenchmarkRunner {
+    private static final String DEFAULT_THREADS = "1,2,4,8";
+
+    public static void main(String[] args) throws RunnerException {
+        int[] threadCounts = Arrays.stream(System.getProperty("threads", DEFAULT_THREADS).split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        String sizes = System.getProperty("size");
+
+        for (int threads : threadCounts) {
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class);
+            if (args.length == 0) {
+                options.include(".*Benchmark.*");
+            }
+            for (String include : args) {
+                options.include(include);
+            }
+            if (sizes != null) {
+                options.param("size", sizes.split(","));
+            }
+            new Runner(options.build()).run();
+        }
+    }
+}
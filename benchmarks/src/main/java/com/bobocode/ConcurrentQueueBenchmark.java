@@ -0,0 +1,132 @@
+package com.bobocode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ConcurrentLinkedQueue}, {@link ArrayRingQueue} and two-lock {@link LinkedBlockingQueue} with
+ * {@link LinkedQueue} wrapped into {@code synchronized} methods. All
+ * benchmark threads share the same queue, and each of them adds and polls an element in every operation. Run it for
+ * 1 to 64 threads, e.g. {@code -Dthreads=1,2,4,8,16,32,64 ConcurrentQueueBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentQueueBenchmark {
+    private static final Integer ELEMENT = 42;
+    private static final int MAX_THREADS = 64;
+    private static final int BATCH_SIZE = 64;
+    private static final List<Integer> BATCH = Collections.nCopies(BATCH_SIZE, ELEMENT);
+
+    @Param({"ConcurrentLinkedQueue", "ArrayRingQueue", "LinkedBlockingQueue", "SynchronizedLinkedQueue"})
+    private String implementation;
+
+    @Param({"1000"})
+    private int size;
+
+    private Queue<Integer> queue;
+
+    @Setup
+    public void setUp() {
+        queue = createQueue();
+        for (int i = 0; i < size; i++) {
+            queue.add(ELEMENT);
+        }
+    }
+
+    private Queue<Integer> createQueue() {
+        switch (implementation) {
+            case "ConcurrentLinkedQueue":
+                return new ConcurrentLinkedQueue<>();
+            case "ArrayRingQueue":
+                return new ArrayRingQueue<>(2 * size + MAX_THREADS * BATCH_SIZE);
+            case "LinkedBlockingQueue":
+                return new LinkedBlockingQueue<>();
+            default:
+                return new SynchronizedQueue<>(new LinkedQueue<>());
+        }
+    }
+
+    @Benchmark
+    public Integer addAndPoll() {
+        queue.add(ELEMENT);
+        return queue.poll();
+    }
+
+    /**
+     * Adds and drains a batch of {@value BATCH_SIZE} elements, so its score should be compared with
+     * {@link #addAndPoll()} multiplied by the batch size.
+     */
+    @Benchmark
+    public int addAllAndDrain(DrainState state) {
+        queue.addAll(BATCH);
+        state.drained.clear();
+        return queue.drainTo(state.drained, BATCH_SIZE);
+    }
+
+    @Benchmark
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @State(Scope.Thread)
+    public static class DrainState {
+        private final List<Integer> drained = new ArrayList<>(BATCH_SIZE);
+    }
+
+    private static class SynchronizedQueue<T> implements Queue<T> {
+        private final Queue<T> queue;
+
+        private SynchronizedQueue(Queue<T> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public synchronized void add(T element) {
+            queue.add(element);
+        }
+
+        @Override
+        public synchronized T poll() {
+            return queue.poll();
+        }
+
+        @Override
+        public synchronized void addAll(Collection<? extends T> elements) {
+            queue.addAll(elements);
+        }
+
+        @Override
+        public synchronized int drainTo(Collection<? super T> collection, int maxElements) {
+            return queue.drainTo(collection, maxElements);
+        }
+
+        @Override
+        public synchronized int size() {
+            return queue.size();
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return queue.isEmpty();
+        }
+    }
+}
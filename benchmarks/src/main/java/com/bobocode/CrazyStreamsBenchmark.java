@@ -0,0 +1,128 @@
+package com.bobocode;
+
+import com.bobocode.model.Account;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Month;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every public method of {@link CrazyStreams}. The largest size is limited to one million accounts, since
+ * ten million generated accounts do not fit into a default benchmark heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrazyStreamsBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private CrazyStreams crazyStreams;
+    private String existingEmail;
+
+    @Setup
+    public void setUp() {
+        List<Account> accounts = BenchmarkData.accounts(size);
+        crazyStreams = CrazyStreams.of(accounts);
+        existingEmail = accounts.get(size / 2).getEmail();
+    }
+
+    @Benchmark
+    public Optional<Account> findRichestPerson() {
+        return crazyStreams.findRichestPerson();
+    }
+
+    @Benchmark
+    public List<Account> findAccountsByBirthdayMonth() {
+        return crazyStreams.findAccountsByBirthdayMonth(Month.FEBRUARY);
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Account>> partitionMaleAccounts() {
+        return crazyStreams.partitionMaleAccounts();
+    }
+
+    @Benchmark
+    public Map<String, List<Account>> groupAccountsByEmailDomain() {
+        return crazyStreams.groupAccountsByEmailDomain();
+    }
+
+    @Benchmark
+    public int getNumOfLettersInFirstAndLastNames() {
+        return crazyStreams.getNumOfLettersInFirstAndLastNames();
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalBalance() {
+        return crazyStreams.calculateTotalBalance();
+    }
+
+    @Benchmark
+    public List<Account> sortByFirstAndLastNames() {
+        return crazyStreams.sortByFirstAndLastNames();
+    }
+
+    @Benchmark
+    public boolean containsAccountWithEmailDomain() {
+        return crazyStreams.containsAccountWithEmailDomain("bobocode.com");
+    }
+
+    @Benchmark
+    public BigDecimal getBalanceByEmail() {
+        return crazyStreams.getBalanceByEmail(existingEmail);
+    }
+
+    @Benchmark
+    public Map<Long, Account> collectAccountsById() {
+        return crazyStreams.collectAccountsById();
+    }
+
+    @Benchmark
+    public Map<String, BigDecimal> collectBalancesByEmailForAccountsCreatedOn() {
+        return crazyStreams.collectBalancesByEmailForAccountsCreatedOn(2015);
+    }
+
+    @Benchmark
+    public Map<String, Set<String>> groupFirstNamesByLastNames() {
+        return crazyStreams.groupFirstNamesByLastNames();
+    }
+
+    @Benchmark
+    public Map<Month, String> groupCommaSeparatedFirstNamesByBirthdayMonth() {
+        return crazyStreams.groupCommaSeparatedFirstNamesByBirthdayMonth();
+    }
+
+    @Benchmark
+    public Map<Month, BigDecimal> groupTotalBalanceByCreationMonth() {
+        return crazyStreams.groupTotalBalanceByCreationMonth();
+    }
+
+    @Benchmark
+    public Map<Character, Long> getCharacterFrequencyInFirstNames() {
+        return crazyStreams.getCharacterFrequencyInFirstNames();
+    }
+
+    @Benchmark
+    public Map<Character, Long> getCharacterFrequencyIgnoreCaseInFirstAndLastNames() {
+        return crazyStreams.getCharacterFrequencyIgnoreCaseInFirstAndLastNames();
+    }
+}
@@ -0,0 +1,87 @@
+package com.bobocode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures every public method of {@link FileReaders} on generated text files of {@code size} characters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileReadersBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private static final int CHUNK_SIZE = 8192;
+    private static final Charset WINDOWS_1252 = Charset.forName("windows-1252");
+
+    private String fileName;
+    private Path file;
+    private CachingFileReaders cachingFileReaders;
+
+    @Setup
+    public void setUp() {
+        fileName = BenchmarkData.textFile(size).toString();
+        file = Paths.get(fileName);
+        cachingFileReaders = new CachingFileReaders(Long.MAX_VALUE);
+    }
+
+    @Benchmark
+    public String readWholeFile() {
+        return FileReaders.readWholeFile(fileName);
+    }
+
+    /**
+     * Reads generated ASCII text in a single byte charset, that JDK copies into a string without decoding.
+     */
+    @Benchmark
+    public String readWholeFileWithCharset() {
+        return FileReaders.readWholeFile(file, WINDOWS_1252);
+    }
+
+    @Benchmark
+    public String readWholeFileAsync() {
+        return FileReaders.readWholeFileAsync(file).join();
+    }
+
+    /**
+     * Reads the same file through a cache, so only the first call reads it, and other calls check file attributes.
+     */
+    @Benchmark
+    public String readWholeFileCached() {
+        return cachingFileReaders.readWholeFile(file);
+    }
+
+    @Benchmark
+    public void lines(Blackhole blackhole) {
+        try (Stream<String> lines = FileReaders.lines(file)) {
+            lines.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void readChunks(Blackhole blackhole) {
+        FileReaders.readChunks(file, CHUNK_SIZE, blackhole::consume);
+    }
+}
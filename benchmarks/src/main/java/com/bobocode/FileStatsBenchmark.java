@@ -0,0 +1,86 @@
+package com.bobocode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every public method of {@link FileStats} on generated text files of {@code size} characters. Parallel
+ * counting uses all available processors, and it splits only files larger than 1 MB. Ranking queries work on
+ * a ranking that is built by {@link FileStats#from(String)}, so their time should not depend on a file size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileStatsBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private String fileName;
+    private Path file;
+    private FileStats fileStats;
+
+    @Setup
+    public void setUp() {
+        fileName = BenchmarkData.textFile(size).toString();
+        file = Paths.get(fileName);
+        fileStats = FileStats.from(fileName);
+    }
+
+    @Benchmark
+    public FileStats from() {
+        return FileStats.from(fileName);
+    }
+
+    @Benchmark
+    public FileStats fromParallel() {
+        return FileStats.from(file, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Benchmark
+    public int getCharCount() {
+        return fileStats.getCharCount('a');
+    }
+
+    @Benchmark
+    public char getMostPopularCharacter() {
+        return fileStats.getMostPopularCharacter();
+    }
+
+    @Benchmark
+    public boolean containsCharacter() {
+        return fileStats.containsCharacter('z');
+    }
+
+    @Benchmark
+    public List<FileStats.Entry> topK() {
+        return fileStats.topK(10);
+    }
+
+    @Benchmark
+    public int frequencyRank() {
+        return fileStats.frequencyRank('z');
+    }
+
+    @Benchmark
+    public List<FileStats.Entry> entries() {
+        return fileStats.entries();
+    }
+}
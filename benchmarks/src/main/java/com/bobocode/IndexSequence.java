@@ -0,0 +1,26 @@
+package com.bobocode;
+
+import java.util.SplittableRandom;
+
+/**
+ * {@link IndexSequence} is a precomputed cyclic sequence of random indices. It allows benchmarks to access random
+ * positions without paying for a random number generator call inside the measured code.
+ */
+class IndexSequence {
+    private static final int LENGTH = 1 << 12;
+    private static final int MASK = LENGTH - 1;
+
+    private final int[] indices = new int[LENGTH];
+    private int cursor;
+
+    IndexSequence(int bound) {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < LENGTH; i++) {
+            indices[i] = random.nextInt(bound);
+        }
+    }
+
+    int next() {
+        return indices[cursor++ & MASK];
+    }
+}
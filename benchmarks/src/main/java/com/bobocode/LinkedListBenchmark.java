@@ -0,0 +1,93 @@
+package com.bobocode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every public method of {@link LinkedList}. Each benchmark thread owns its own list, so the numbers show the
+ * cost of a single operation rather than contention.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkedListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private List<Integer> list;
+    private Integer[] elements;
+    private IndexSequence indices;
+
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.integers(size);
+        list = LinkedList.of(elements);
+        indices = new IndexSequence(size);
+    }
+
+    @Benchmark
+    public List<Integer> of() {
+        return LinkedList.of(elements);
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(indices.next());
+    }
+
+    @Benchmark
+    public void set() {
+        int index = indices.next();
+        list.set(index, elements[index]);
+    }
+
+    @Benchmark
+    public void addAndRemoveLast() {
+        list.add(size);
+        list.remove(size);
+    }
+
+    @Benchmark
+    public void addAndRemoveByIndex() {
+        int index = indices.next();
+        list.add(index, size);
+        list.remove(index);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return list.contains(elements[indices.next()]);
+    }
+
+    @Benchmark
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    @Benchmark
+    public int size() {
+        return list.size();
+    }
+
+    @Benchmark
+    public List<Integer> clearAndRefill() {
+        list.clear();
+        list = LinkedList.of(elements);
+        return list;
+    }
+}
@@ -0,0 +1,60 @@
+package com.bobocode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every public method of {@link LinkedQueue}. The queue is prefilled with {@code size} elements and each
+ * mutating benchmark adds and polls one element, so the queue stays of the same size during the whole measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkedQueueBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private Queue<Integer> queue;
+    private Integer[] elements;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.integers(size);
+        queue = new LinkedQueue<>();
+        for (Integer element : elements) {
+            queue.add(element);
+        }
+    }
+
+    @Benchmark
+    public Integer addAndPoll() {
+        queue.add(elements[cursor++ % size]);
+        return queue.poll();
+    }
+
+    @Benchmark
+    public int size() {
+        return queue.size();
+    }
+
+    @Benchmark
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+}
@@ -0,0 +1,86 @@
+package com.bobocode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares indexed access of {@link LinkedList} and {@link ArrayList}. Sequential benchmarks scan the whole list by
+ * index, so sizes are limited to the ones that a linked list can scan in a reasonable time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListAccessBenchmark {
+
+    @Param({"LinkedList", "ArrayList"})
+    private String implementation;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Integer> list;
+    private Integer[] elements;
+    private IndexSequence indices;
+
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.integers(size);
+        list = "LinkedList".equals(implementation) ? LinkedList.of(elements) : ArrayList.of(elements);
+        indices = new IndexSequence(size);
+    }
+
+    @Benchmark
+    public long sequentialGet() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Integer element : list) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long parallelStreamSum() {
+        return list.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public void sequentialSet() {
+        for (int i = 0; i < size; i++) {
+            list.set(i, elements[i]);
+        }
+    }
+
+    @Benchmark
+    public Integer randomGet() {
+        return list.get(indices.next());
+    }
+
+    @Benchmark
+    public void randomSet() {
+        int index = indices.next();
+        list.set(index, elements[index]);
+    }
+}
@@ -0,0 +1,93 @@
+package com.bobocode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds a list of one million elements per operation. An unrolled list does not produce garbage while it grows, so
+ * {@code gc.alloc.rate.norm} reported by the gc profiler is its heap footprint per million elements. For
+ * {@link LinkedList} it is the same, and for {@link ArrayList} it also includes arrays discarded on growth.
+ * Elements are shared between all lists, so only the structure itself is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListFootprintBenchmark {
+    private static final int MILLION = 1_000_000;
+
+    @Param({"8", "32", "128"})
+    private int nodeCapacity;
+
+    private Integer[] elements;
+
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.integers(MILLION);
+    }
+
+    @Benchmark
+    public List<Integer> unrolledLinkedList() {
+        return fill(new UnrolledLinkedList<>(nodeCapacity));
+    }
+
+    @Benchmark
+    public List<Integer> linkedList() {
+        return fill(new LinkedList<>());
+    }
+
+    @Benchmark
+    public List<Integer> arrayList() {
+        return fill(new ArrayList<>());
+    }
+
+    @Benchmark
+    public long scanUnrolledLinkedList(ScanState state) {
+        long sum = 0;
+        for (Integer element : state.unrolledLinkedList) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long scanLinkedList(ScanState state) {
+        long sum = 0;
+        for (Integer element : state.linkedList) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    private List<Integer> fill(List<Integer> list) {
+        for (Integer element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @State(Scope.Thread)
+    public static class ScanState {
+        private List<Integer> unrolledLinkedList;
+        private List<Integer> linkedList;
+
+        @Setup
+        public void setUp(ListFootprintBenchmark benchmark) {
+            unrolledLinkedList = benchmark.unrolledLinkedList();
+            linkedList = benchmark.linkedList();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.bobocode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link LinkedQueue} with and without node recycling. With recycling enabled, {@code gc.alloc.rate.norm}
+ * reported by the gc profiler should be close to zero bytes per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PooledQueueBenchmark {
+    private static final Integer ELEMENT = 42;
+
+    @Param({"0", "1024"})
+    private int maxPooledNodes;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Queue<Integer> queue;
+
+    @Setup
+    public void setUp() {
+        queue = new LinkedQueue<>(maxPooledNodes);
+        for (int i = 0; i < size; i++) {
+            queue.add(ELEMENT);
+        }
+    }
+
+    @Benchmark
+    public Integer addAndPoll() {
+        queue.add(ELEMENT);
+        return queue.poll();
+    }
+}
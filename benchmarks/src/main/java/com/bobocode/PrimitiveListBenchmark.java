@@ -0,0 +1,92 @@
+package com.bobocode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link IntList} with {@link LinkedList} of boxed integers. Run it with the gc profiler to see the difference
+ * in allocated bytes per operation, e.g. {@code -Dthreads=1 PrimitiveListBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private IntList intList;
+    private List<Integer> linkedList;
+
+    @Setup
+    public void setUp() {
+        intList = new IntList();
+        linkedList = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            intList.addInt(i);
+            linkedList.add(i);
+        }
+    }
+
+    @Benchmark
+    public IntList fillIntList() {
+        IntList list = new IntList();
+        for (int i = 0; i < size; i++) {
+            list.addInt(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> fillLinkedList() {
+        List<Integer> list = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long sumIntList() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += intList.getInt(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumLinkedList() {
+        long sum = 0;
+        for (Integer element : linkedList) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void appendAndRemoveLastIntList() {
+        intList.addInt(size);
+        intList.remove(size);
+    }
+
+    @Benchmark
+    public void appendAndRemoveLastLinkedList() {
+        linkedList.add(size);
+        linkedList.remove(size);
+    }
+}
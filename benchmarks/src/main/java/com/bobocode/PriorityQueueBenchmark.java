@@ -0,0 +1,68 @@
+package com.bobocode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link PriorityQueue} based on 4-ary heap with {@link java.util.PriorityQueue} based on binary heap.
+ * The queue keeps {@code size} elements, and each operation adds a random element and polls the least one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriorityQueueBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private Integer[] elements;
+    private IndexSequence indices;
+    private PriorityQueue<Integer> dAryHeap;
+    private java.util.PriorityQueue<Integer> binaryHeap;
+
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.integers(size);
+        indices = new IndexSequence(size);
+        dAryHeap = new PriorityQueue<>(Arrays.asList(elements), Comparator.naturalOrder());
+        binaryHeap = new java.util.PriorityQueue<>(Arrays.asList(elements));
+    }
+
+    @Benchmark
+    public Integer dAryHeapAddAndPoll() {
+        dAryHeap.add(elements[indices.next()]);
+        return dAryHeap.poll();
+    }
+
+    @Benchmark
+    public Integer binaryHeapAddAndPoll() {
+        binaryHeap.add(elements[indices.next()]);
+        return binaryHeap.poll();
+    }
+
+    @Benchmark
+    public PriorityQueue<Integer> dAryHeapify() {
+        return new PriorityQueue<>(Arrays.asList(elements), Comparator.naturalOrder());
+    }
+
+    @Benchmark
+    public java.util.PriorityQueue<Integer> binaryHeapify() {
+        return new java.util.PriorityQueue<>(Arrays.asList(elements));
+    }
+}
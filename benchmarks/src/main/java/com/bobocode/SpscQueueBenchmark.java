@@ -0,0 +1,109 @@
+package com.bobocode;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of one producer and one consumer thread, that hand off elements through a shared queue.
+ * Failed offers and empty polls are not counted, so {@code offered} and {@code polled} counters show the number of
+ * elements that were actually passed per second. The SPSC queue is expected to reach tens of millions ops/s per pair.
+ * Only bounded queues are compared, since a faster producer would make an unbounded queue grow without limit.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpscQueueBenchmark {
+    private static final Integer ELEMENT = 42;
+    private static final int CAPACITY = 1 << 14;
+
+    @Param({"SpscArrayQueue", "ArrayRingQueue"})
+    private String implementation;
+
+    private Queue<Integer> queue;
+    private SpscArrayQueue<Integer> spscQueue;
+    private ArrayRingQueue<Integer> ringQueue;
+
+    @Setup
+    public void setUp() {
+        if ("SpscArrayQueue".equals(implementation)) {
+            queue = spscQueue = new SpscArrayQueue<>(CAPACITY);
+        } else {
+            queue = ringQueue = new ArrayRingQueue<>(CAPACITY);
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long offered;
+        public long polled;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            offered = polled = 0;
+        }
+    }
+
+    @Benchmark
+    @Group("handOff")
+    @GroupThreads(1)
+    public void offer(Counters counters) {
+        if (offer(ELEMENT)) {
+            counters.offered++;
+        }
+    }
+
+    @Benchmark
+    @Group("handOff")
+    @GroupThreads(1)
+    public void poll(Counters counters, Blackhole blackhole) {
+        Integer element = queue.poll();
+        if (element != null) {
+            counters.polled++;
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    @Group("batchHandOff")
+    @GroupThreads(1)
+    public void batchOffer(Counters counters) {
+        if (offer(ELEMENT)) {
+            counters.offered++;
+        }
+    }
+
+    @Benchmark
+    @Group("batchHandOff")
+    @GroupThreads(1)
+    public void batchPoll(Counters counters, Blackhole blackhole) {
+        if (spscQueue != null) {
+            counters.polled += spscQueue.drainTo(blackhole::consume, 256);
+        } else {
+            poll(counters, blackhole);
+        }
+    }
+
+    private boolean offer(Integer element) {
+        return spscQueue != null ? spscQueue.offer(element) : ringQueue.offer(element);
+    }
+}
@@ -0,0 +1,62 @@
+package com.bobocode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link TextDecoder#decode(byte[], int, Charset)} with a plain {@link String} constructor on generated ASCII
+ * text of {@code size} bytes, for a charset that is passed to the constructor right away and for a multibyte one, that
+ * is scanned for ASCII first.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextDecoderBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"UTF-8", "EUC-JP"})
+    private String charsetName;
+
+    private Charset charset;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        charset = Charset.forName(charsetName);
+        try {
+            bytes = Files.readAllBytes(BenchmarkData.textFile(size));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    public String decode() {
+        return TextDecoder.decode(bytes, bytes.length, charset);
+    }
+
+    @Benchmark
+    public String stringConstructor() {
+        return new String(bytes, 0, bytes.length, charset);
+    }
+}
@@ -0,0 +1,40 @@
+package com.bobocode;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * {@link ByteBufferPool} keeps a bounded number of direct buffers of the same size for reuse, because a direct buffer
+ * is expensive to allocate and it is released only by GC. When the pool is empty a new buffer is allocated, and when
+ * the pool is full a returned buffer is dropped. It is thread-safe.
+ */
+class ByteBufferPool {
+    private final int bufferSize;
+    private final BlockingQueue<ByteBuffer> buffers;
+
+    ByteBufferPool(int bufferSize, int maxPooledBuffers) {
+        this.bufferSize = bufferSize;
+        this.buffers = new ArrayBlockingQueue<>(maxPooledBuffers);
+    }
+
+    /**
+     * Takes a cleared buffer from the pool or allocates a new one.
+     *
+     * @return a direct buffer ready for writing
+     */
+    ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Returns a buffer to the pool. The buffer must not be used after that.
+     *
+     * @param buffer a buffer that was acquired from this pool
+     */
+    void release(ByteBuffer buffer) {
+        buffer.clear();
+        buffers.offer(buffer);
+    }
+}
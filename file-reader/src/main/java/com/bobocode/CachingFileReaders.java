@@ -0,0 +1,163 @@
+package com.bobocode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link CachingFileReaders} reads whole files with {@link FileReaders} and keeps their content in memory. Entries are
+ * keyed by an absolute path, and evicted in LRU order when total weight of cached content exceeds the limit. A weight
+ * of an entry is a length of its content, and a file that is heavier than the whole limit is never cached.
+ * <p>
+ * Each read checks last modified time and size of the file, and the content is read again if any of them has changed,
+ * so a cached file costs one metadata lookup instead of reading and decoding it. Numbers of hits, misses and
+ * evictions are counted, so the cache efficiency can be monitored. It is thread-safe.
+ */
+public class CachingFileReaders {
+    private final long maxWeight;
+    private final Map<Path, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    private static class Entry {
+        private final String content;
+        private final FileTime lastModifiedTime;
+        private final long size;
+
+        private Entry(String content, BasicFileAttributes attributes) {
+            this.content = content;
+            this.lastModifiedTime = attributes.lastModifiedTime();
+            this.size = attributes.size();
+        }
+
+        private boolean isValid(BasicFileAttributes attributes) {
+            return size == attributes.size() && lastModifiedTime.equals(attributes.lastModifiedTime());
+        }
+    }
+
+    /**
+     * Creates an empty cache
+     *
+     * @param maxWeight max total length of cached content
+     */
+    public CachingFileReaders(long maxWeight) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Max weight must be positive");
+        }
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Returns a {@link String} that contains whole text from the file specified by name. A file is looked up in the
+     * classpath first, and then in the file system.
+     *
+     * @param fileName a name of a text file
+     * @return string that holds whole file content
+     */
+    public String readWholeFile(String fileName) {
+        Objects.requireNonNull(fileName);
+        return readWholeFile(FileReaders.resolvePath(fileName));
+    }
+
+    /**
+     * Returns a {@link String} that contains whole text from the file. Cached content is returned if the file has the
+     * same last modified time and size as when it was cached, otherwise the file is read again.
+     *
+     * @param file a text file
+     * @return string that holds whole file content
+     */
+    public String readWholeFile(Path file) {
+        Path key = file.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = readAttributes(key);
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.isValid(attributes)) {
+                hitCount++;
+                return entry.content;
+            }
+            missCount++;
+        }
+        Entry entry = new Entry(FileReaders.readWholeFile(key), attributes);
+        put(key, entry);
+        return entry.content;
+    }
+
+    /**
+     * Returns a number of reads that were served from the cache.
+     *
+     * @return number of hits
+     */
+    public synchronized long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns a number of reads that had to read a file, because it was not cached or it has changed.
+     *
+     * @return number of misses
+     */
+    public synchronized long missCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns a number of entries that were removed to keep total weight within the limit.
+     *
+     * @return number of evictions
+     */
+    public synchronized long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns total length of cached content.
+     *
+     * @return current weight of the cache
+     */
+    public synchronized long weight() {
+        return weight;
+    }
+
+    /**
+     * Removes all cached content. Counters are not reset.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    private synchronized void put(Path key, Entry entry) {
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            weight -= previous.content.length();
+        }
+        if (entry.content.length() > maxWeight) {
+            return;
+        }
+        entries.put(key, entry);
+        weight += entry.content.length();
+        Iterator<Entry> leastRecentlyUsed = entries.values().iterator();
+        while (weight > maxWeight) {
+            weight -= leastRecentlyUsed.next().content.length();
+            leastRecentlyUsed.remove();
+            evictionCount++;
+        }
+    }
+
+    private static BasicFileAttributes readAttributes(Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
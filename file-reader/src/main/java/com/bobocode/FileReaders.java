@@ -1,17 +1,476 @@
 package com.bobocode;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
 /**
  * {@link FileReaders} privides an API that allow to read whole file into a {@link String} by file name.
+ * <p>
+ * Large files should not be read into a single {@link String}. They can be processed lazily line by line with
+ * {@link FileReaders#lines(Path)}, or by chunks of characters with {@link FileReaders#readChunks(Path, int, Consumer)},
+ * both of them use bounded memory whatever the file size. Files are decoded as UTF-8, unless a charset is provided.
+ * <p>
+ * A whole file is read with NIO. An array for its bytes is allocated once using the file size, the file is read with
+ * {@link FileChannel} or mapped into memory if it is large, and bytes are decoded right into the resulting
+ * {@link String}, without splitting the text into lines and joining them back. Plain ASCII text in a multibyte
+ * ASCII compatible charset, like EUC-JP, is detected by words of eight bytes, and copied into the string without a
+ * charset decoder.
+ * <p>
+ * Files may be also read asynchronously with {@link FileReaders#readWholeFileAsync(Path)}, that uses
+ * {@link AsynchronousFileChannel} and pooled direct buffers, so a calling thread is not blocked while a file is read.
  */
 public class FileReaders {
+    private static final int LINES_BUFFER_SIZE = 1 << 16;
+    private static final long MAP_THRESHOLD = 1 << 20;
+    private static final int MAX_FILE_SIZE = Integer.MAX_VALUE - 8;
+    private static final int ASYNC_BUFFER_SIZE = 1 << 16;
+    private static final int MAX_POOLED_BUFFERS = 32;
+    private static final int DEFAULT_MAX_CONCURRENT_READS = 64;
+    private static final ByteBufferPool BUFFER_POOL = new ByteBufferPool(ASYNC_BUFFER_SIZE, MAX_POOLED_BUFFERS);
 
     /**
-     * Returns a {@link String} that contains whole text from the file specified by name.
+     * Returns a {@link String} that contains whole text from the file specified by name. A file is looked up in the
+     * classpath first, and then in the file system.
      *
      * @param fileName a name of a text file
      * @return string that holds whole file content
      */
     public static String readWholeFile(String fileName) {
-        throw new UnsupportedOperationException("It's your job to make it work!"); //todo
+        return readWholeFile(fileName, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a {@link String} that contains whole text from the file specified by name in the provided charset. A file
+     * is looked up in the classpath first, and then in the file system.
+     *
+     * @param fileName a name of a text file
+     * @param charset  a charset of the file
+     * @return string that holds whole file content
+     */
+    public static String readWholeFile(String fileName, Charset charset) {
+        Objects.requireNonNull(fileName);
+        return readWholeFile(resolvePath(fileName), charset);
+    }
+
+    /**
+     * Returns a {@link String} that contains whole text from the file. The text is returned as is, including line
+     * terminators.
+     *
+     * @param file a text file
+     * @return string that holds whole file content
+     */
+    public static String readWholeFile(Path file) {
+        return readWholeFile(file, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a {@link String} that contains whole text from the file in the provided charset. The text is returned as
+     * is, including line terminators.
+     *
+     * @param file    a text file
+     * @param charset a charset of the file
+     * @return string that holds whole file content
+     */
+    public static String readWholeFile(Path file, Charset charset) {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(charset);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAX_FILE_SIZE) {
+                throw new IOException("File " + file + " is too large to be read into a String");
+            }
+            byte[] bytes = new byte[(int) size];
+            int length = size < MAP_THRESHOLD ? read(channel, bytes) : map(channel, bytes);
+            return TextDecoder.decode(bytes, length, charset);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads whole text from the file asynchronously. The file is read by chunks into a pooled direct buffer, and a
+     * calling thread is not blocked. The future is completed by a thread of the channel thread pool, or it is completed
+     * exceptionally with {@link IOException} if the file cannot be read.
+     *
+     * @param file a text file
+     * @return future of a string that holds whole file content
+     */
+    public static CompletableFuture<String> readWholeFileAsync(Path file) {
+        return readWholeFileAsync(file, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads whole text from the file in the provided charset asynchronously.
+     *
+     * @param file    a text file
+     * @param charset a charset of the file
+     * @return future of a string that holds whole file content
+     * @see FileReaders#readWholeFileAsync(Path)
+     */
+    public static CompletableFuture<String> readWholeFileAsync(Path file, Charset charset) {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(charset);
+        CompletableFuture<String> result = new CompletableFuture<>();
+        try {
+            AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, StandardOpenOption.READ);
+            try {
+                long size = channel.size();
+                if (size > MAX_FILE_SIZE) {
+                    throw new IOException("File " + file + " is too large to be read into a String");
+                }
+                new AsyncRead(channel, new byte[(int) size], charset, result).start();
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException | RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Reads whole texts of all files asynchronously. At most {@value DEFAULT_MAX_CONCURRENT_READS} files are read at the
+     * same time.
+     *
+     * @param files text files
+     * @return future of a list of file contents in the same order as files
+     */
+    public static CompletableFuture<List<String>> readWholeFilesAsync(List<Path> files) {
+        return readWholeFilesAsync(files, DEFAULT_MAX_CONCURRENT_READS);
+    }
+
+    /**
+     * Reads whole texts of all files asynchronously. A next file is started when one of current reads is completed,
+     * so at most {@code maxConcurrentReads} files are open at the same time. Reads that complete right away, like reads
+     * of empty or missing files, are started in a loop instead of nested calls, so any number of files may be read. The
+     * future is completed exceptionally if any file cannot be read.
+     *
+     * @param files              text files
+     * @param maxConcurrentReads max number of files that are read at the same time
+     * @return future of a list of file contents in the same order as files
+     */
+    public static CompletableFuture<List<String>> readWholeFilesAsync(List<Path> files, int maxConcurrentReads) {
+        return readWholeFilesAsync(files, maxConcurrentReads, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads whole texts of all files in the provided charset asynchronously.
+     *
+     * @param files              text files
+     * @param maxConcurrentReads max number of files that are read at the same time
+     * @param charset            a charset of the files
+     * @return future of a list of file contents in the same order as files
+     * @see FileReaders#readWholeFilesAsync(List, int)
+     */
+    public static CompletableFuture<List<String>> readWholeFilesAsync(List<Path> files, int maxConcurrentReads,
+                                                                      Charset charset) {
+        Objects.requireNonNull(charset);
+        if (maxConcurrentReads <= 0) {
+            throw new IllegalArgumentException("Max number of concurrent reads must be positive");
+        }
+        List<CompletableFuture<String>> results = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            results.add(new CompletableFuture<>());
+        }
+        AsyncBatchRead batchRead = new AsyncBatchRead(files, charset, results);
+        for (int i = 0; i < Math.min(maxConcurrentReads, files.size()); i++) {
+            batchRead.startNext();
+        }
+        return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    List<String> contents = new ArrayList<>(results.size());
+                    results.forEach(content -> contents.add(content.join()));
+                    return contents;
+                });
+    }
+
+    /**
+     * {@link AsyncBatchRead} starts a read of the next file each time a read is completed. A completion handler may run
+     * right in the thread that starts a read, so requests to start are counted, and only the thread that sees no other
+     * pending requests starts reads in a loop, until all requests are served. A read that cannot be started, for
+     * example of a {@code null} file, completes its result exceptionally, so the loop never stops halfway.
+     */
+    private static class AsyncBatchRead {
+        private final List<Path> files;
+        private final Charset charset;
+        private final List<CompletableFuture<String>> results;
+        private final AtomicInteger nextIndex = new AtomicInteger();
+        private final AtomicInteger pendingStarts = new AtomicInteger();
+
+        private AsyncBatchRead(List<Path> files, Charset charset, List<CompletableFuture<String>> results) {
+            this.files = files;
+            this.charset = charset;
+            this.results = results;
+        }
+
+        private void startNext() {
+            if (pendingStarts.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                int index = nextIndex.getAndIncrement();
+                if (index < files.size()) {
+                    CompletableFuture<String> read;
+                    try {
+                        read = readWholeFileAsync(files.get(index), charset);
+                    } catch (RuntimeException e) {
+                        read = CompletableFuture.failedFuture(e);
+                    }
+                    read.whenComplete((content, error) -> {
+                        if (error != null) {
+                            results.get(index).completeExceptionally(error);
+                        } else {
+                            results.get(index).complete(content);
+                        }
+                        startNext();
+                    });
+                }
+            } while (pendingStarts.decrementAndGet() != 0);
+        }
+    }
+
+    /**
+     * {@link AsyncRead} reads a file into a byte array by chunks. Each completed chunk is copied from a pooled buffer
+     * into the array, and a read of the next chunk is started from the completion handler. The buffer is acquired
+     * right before the first read, and it is released on completion or on any failure.
+     */
+    private static class AsyncRead implements CompletionHandler<Integer, Void> {
+        private final AsynchronousFileChannel channel;
+        private final byte[] bytes;
+        private final Charset charset;
+        private final CompletableFuture<String> result;
+        private ByteBuffer buffer;
+        private int position;
+
+        private AsyncRead(AsynchronousFileChannel channel, byte[] bytes, Charset charset,
+                          CompletableFuture<String> result) {
+            this.channel = channel;
+            this.bytes = bytes;
+            this.charset = charset;
+            this.result = result;
+        }
+
+        private void start() {
+            buffer = BUFFER_POOL.acquire();
+            readChunk();
+        }
+
+        private void readChunk() {
+            if (position == bytes.length) {
+                finish();
+                return;
+            }
+            buffer.clear().limit(Math.min(buffer.capacity(), bytes.length - position));
+            try {
+                channel.read(buffer, position, null, this);
+            } catch (RuntimeException e) {
+                failed(e, null);
+            }
+        }
+
+        @Override
+        public void completed(Integer read, Void attachment) {
+            if (read == -1) {
+                finish();
+                return;
+            }
+            buffer.flip();
+            buffer.get(bytes, position, read);
+            position += read;
+            readChunk();
+        }
+
+        @Override
+        public void failed(Throwable error, Void attachment) {
+            close();
+            result.completeExceptionally(error);
+        }
+
+        private void finish() {
+            close();
+            result.complete(TextDecoder.decode(bytes, position, charset));
+        }
+
+        private void close() {
+            if (buffer != null) {
+                BUFFER_POOL.release(buffer);
+                buffer = null;
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    /*
+     * A channel reads into a heap buffer through a temporary direct buffer, that is cached by JDK for each thread, so
+     * small files are copied only once on their way to the array.
+     */
+    private static int read(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) == -1) {
+                break;
+            }
+        }
+        return buffer.position();
+    }
+
+    private static int map(FileChannel channel, byte[] bytes) throws IOException {
+        channel.map(FileChannel.MapMode.READ_ONLY, 0, bytes.length).get(bytes);
+        return bytes.length;
+    }
+
+    /**
+     * Returns a lazy stream of file lines. Lines are read through a reader with a large buffer, that is reused for the
+     * whole file, so only the current line is kept in memory. The stream must be closed to close the file.
+     *
+     * @param file a text file
+     * @return stream of lines without line terminators
+     */
+    public static Stream<String> lines(Path file) {
+        return lines(file, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a lazy stream of file lines in the provided charset. The stream must be closed to close the file.
+     *
+     * @param file    a text file
+     * @param charset a charset of the file
+     * @return stream of lines without line terminators
+     */
+    public static Stream<String> lines(Path file, Charset charset) {
+        BufferedReader reader = new BufferedReader(openReader(file, charset), LINES_BUFFER_SIZE);
+        return reader.lines().onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Reads the file by chunks of characters and passes each of them to the consumer. The same {@link CharBuffer} is
+     * reused for all chunks, so the consumer must not keep a reference to it. Every chunk, except the last one, is
+     * full, unless it had to be shortened by one character to keep a surrogate pair in one chunk.
+     *
+     * @param file      a text file
+     * @param chunkSize max number of characters in a chunk
+     * @param consumer  a consumer of chunks, each chunk is passed as a buffer ready for reading
+     */
+    public static void readChunks(Path file, int chunkSize, Consumer<CharBuffer> consumer) {
+        readChunks(file, chunkSize, StandardCharsets.UTF_8, consumer);
+    }
+
+    /**
+     * Reads the file in the provided charset by chunks of characters and passes each of them to the consumer.
+     *
+     * @param file      a text file
+     * @param chunkSize max number of characters in a chunk
+     * @param charset   a charset of the file
+     * @param consumer  a consumer of chunks, each chunk is passed as a buffer ready for reading
+     * @see FileReaders#readChunks(Path, int, Consumer)
+     */
+    public static void readChunks(Path file, int chunkSize, Charset charset, Consumer<CharBuffer> consumer) {
+        if (chunkSize < 2) {
+            throw new IllegalArgumentException("Chunk size must be at least 2");
+        }
+        Objects.requireNonNull(consumer);
+        CharBuffer buffer = CharBuffer.allocate(chunkSize);
+        try (Reader reader = openReader(file, charset)) {
+            boolean hasPendingSurrogate = false;
+            char pendingSurrogate = 0;
+            while (true) {
+                buffer.clear();
+                if (hasPendingSurrogate) {
+                    buffer.put(pendingSurrogate);
+                }
+                boolean endOfFile = fill(reader, buffer);
+                buffer.flip();
+                int last = buffer.limit() - 1;
+                hasPendingSurrogate = !endOfFile && Character.isHighSurrogate(buffer.get(last));
+                if (hasPendingSurrogate) {
+                    pendingSurrogate = buffer.get(last);
+                    buffer.limit(last);
+                }
+                if (buffer.hasRemaining()) {
+                    consumer.accept(buffer);
+                }
+                if (endOfFile) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*
+     * Reader.read(CharBuffer) allocates a temporary array on each call, so characters are read right into the buffer
+     * array instead.
+     */
+    private static boolean fill(Reader reader, CharBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = reader.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            if (read == -1) {
+                return true;
+            }
+            buffer.position(buffer.position() + read);
+        }
+        return false;
+    }
+
+    private static Reader openReader(Path file, Charset charset) {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(charset);
+        try {
+            return new InputStreamReader(Files.newInputStream(file), charset);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static Path resolvePath(String fileName) {
+        URL resource = FileReaders.class.getClassLoader().getResource(fileName);
+        if (resource == null) {
+            Path file = Paths.get(fileName);
+            if (!Files.isRegularFile(file)) {
+                throw new UncheckedIOException(new NoSuchFileException(fileName));
+            }
+            return file;
+        }
+        try {
+            return Paths.get(resource.toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid file URL " + resource, e);
+        }
     }
 }
@@ -0,0 +1,89 @@
+package com.bobocode;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link TextDecoder} decodes bytes into a {@link String} with a fast path for plain text. The path is chosen from the
+ * charset alone. UTF-8, US-ASCII, Latin-1 and other single byte charsets, whose encoder never needs more than one byte
+ * per character, are passed to the {@link String} constructor right away, as JDK decodes them in bulk. For multibyte
+ * charsets that encode ASCII characters as single bytes with the same values, like EUC-JP or GB18030, bytes are
+ * checked eight at a time, and if none of them has the high bit set, the text is copied as Latin-1, without running a
+ * {@link java.nio.charset.CharsetDecoder}. Other charsets, like UTF-16, are always decoded by the constructor.
+ */
+class TextDecoder {
+    private static final long NON_ASCII_MASK = 0x8080808080808080L;
+    private static final byte[] ASCII_BYTES = new byte[128];
+    private static final Map<Charset, Boolean> ASCII_SCAN = new ConcurrentHashMap<>();
+
+    static {
+        for (int i = 0; i < ASCII_BYTES.length; i++) {
+            ASCII_BYTES[i] = (byte) i;
+        }
+    }
+
+    private TextDecoder() {
+    }
+
+    /**
+     * Decodes first {@code length} bytes of the array into a string.
+     *
+     * @param bytes   encoded text
+     * @param length  number of bytes to decode
+     * @param charset a charset of the text
+     * @return decoded text
+     */
+    static String decode(byte[] bytes, int length, Charset charset) {
+        if (needsAsciiScan(charset) && isAscii(bytes, length)) {
+            return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+        }
+        return new String(bytes, 0, length, charset);
+    }
+
+    /**
+     * Checks if none of bytes has the high bit set. Bytes are checked by words of eight bytes.
+     *
+     * @param bytes  bytes to check
+     * @param length number of bytes to check
+     * @return {@code true} if all bytes are 7-bit
+     */
+    static boolean isAscii(byte[] bytes, int length) {
+        ByteBuffer words = ByteBuffer.wrap(bytes, 0, length);
+        int index = 0;
+        for (; index + Long.BYTES <= length; index += Long.BYTES) {
+            if ((words.getLong(index) & NON_ASCII_MASK) != 0) {
+                return false;
+            }
+        }
+        for (; index < length; index++) {
+            if (bytes[index] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if texts in the charset are scanned for ASCII before decoding. The result is computed once per charset.
+     *
+     * @param charset a charset of texts
+     * @return {@code true} if the charset is multibyte and ASCII compatible
+     */
+    static boolean needsAsciiScan(Charset charset) {
+        return ASCII_SCAN.computeIfAbsent(charset, key -> !isDecodedInBulk(key) && isAsciiCompatible(key));
+    }
+
+    private static boolean isDecodedInBulk(Charset charset) {
+        return charset.equals(StandardCharsets.UTF_8)
+                || charset.equals(StandardCharsets.US_ASCII)
+                || charset.equals(StandardCharsets.ISO_8859_1)
+                || (charset.canEncode() && charset.newEncoder().maxBytesPerChar() == 1);
+    }
+
+    private static boolean isAsciiCompatible(Charset charset) {
+        return new String(ASCII_BYTES, charset).equals(new String(ASCII_BYTES, StandardCharsets.ISO_8859_1));
+    }
+}
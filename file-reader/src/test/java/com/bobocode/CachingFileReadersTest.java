@@ -0,0 +1,79 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class CachingFileReadersTest {
+
+    @Test
+    void testReadCachedFile() {
+        CachingFileReaders fileReaders = new CachingFileReaders(1024);
+
+        String firstRead = fileReaders.readWholeFile("simple.txt");
+        String secondRead = fileReaders.readWholeFile("simple.txt");
+
+        assertEquals("Hello!\n" + "It's a test file.", firstRead);
+        assertSame(firstRead, secondRead);
+        assertEquals(1, fileReaders.hitCount());
+        assertEquals(1, fileReaders.missCount());
+        assertEquals(firstRead.length(), fileReaders.weight());
+    }
+
+    @Test
+    void testReadModifiedFile(@TempDir Path directory) throws IOException {
+        CachingFileReaders fileReaders = new CachingFileReaders(1024);
+        Path file = write(directory.resolve("config.txt"), "first");
+        FileTime lastModifiedTime = Files.getLastModifiedTime(file);
+        fileReaders.readWholeFile(file);
+
+        write(file, "other");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModifiedTime.toMillis() + 1000));
+
+        assertEquals("other", fileReaders.readWholeFile(file));
+        assertEquals("other", fileReaders.readWholeFile(file));
+        assertEquals(2, fileReaders.missCount());
+        assertEquals(1, fileReaders.hitCount());
+        assertEquals(5, fileReaders.weight());
+    }
+
+    @Test
+    void testEvictLeastRecentlyUsedFiles(@TempDir Path directory) throws IOException {
+        CachingFileReaders fileReaders = new CachingFileReaders(10);
+        Path first = write(directory.resolve("first.txt"), "1234");
+        Path second = write(directory.resolve("second.txt"), "1234");
+        Path third = write(directory.resolve("third.txt"), "1234");
+        Path large = write(directory.resolve("large.txt"), "12345678901");
+
+        fileReaders.readWholeFile(first);
+        fileReaders.readWholeFile(second);
+        fileReaders.readWholeFile(first);
+        fileReaders.readWholeFile(third);
+        fileReaders.readWholeFile(first);
+        fileReaders.readWholeFile(large);
+        fileReaders.readWholeFile(second);
+
+        assertEquals(2, fileReaders.evictionCount());
+        assertEquals(2, fileReaders.hitCount());
+        assertEquals(5, fileReaders.missCount());
+        assertEquals(8, fileReaders.weight());
+    }
+
+    @Test
+    void testCreateCacheWithInvalidWeight() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingFileReaders(0));
+    }
+
+    private static Path write(Path file, String content) throws IOException {
+        return Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,8 +1,27 @@
 package com.bobocode;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 public class FileReadersTest {
@@ -32,4 +51,170 @@ public class FileReadersTest {
 
         assertEquals("Hello!\n" + "It's a test file.", fileContent);
     }
+
+    @Test
+    void testReadWholeFileFromFileSystem(@TempDir Path directory) throws IOException {
+        Path file = Files.write(directory.resolve("text.txt"), "Привіт!\r\nHi".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("Привіт!\r\nHi", FileReaders.readWholeFile(file.toAbsolutePath().toString()));
+    }
+
+    @Test
+    void testReadWholeLargeFile(@TempDir Path directory) throws IOException {
+        String line = "Large file line, що має не лише ASCII символи\n";
+        String text = line.repeat(2 * (1 << 20) / line.length());
+        Path file = Files.write(directory.resolve("large.txt"), text.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(text, FileReaders.readWholeFile(file));
+    }
+
+    @Test
+    void testReadWholeFileOnNonExistingFile() {
+        assertThrows(UncheckedIOException.class, () -> FileReaders.readWholeFile("blahblah.txt"));
+    }
+
+    @Test
+    void testLines(@TempDir Path directory) throws IOException {
+        Path file = Files.write(directory.resolve("lines.txt"), "Hey!\n\nWhat's up?\n".getBytes(StandardCharsets.UTF_8));
+
+        try (Stream<String> lines = FileReaders.lines(file)) {
+            assertEquals(List.of("Hey!", "", "What's up?"), lines.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testReadChunks(@TempDir Path directory) throws IOException {
+        String emoji = new String(Character.toChars(0x1F600));
+        String text = "ab" + emoji + "cdefg" + emoji;
+        Path file = Files.write(directory.resolve("text.txt"), text.getBytes(StandardCharsets.UTF_8));
+        List<String> chunks = new ArrayList<>();
+
+        FileReaders.readChunks(file, 3, chunk -> chunks.add(chunk.toString()));
+
+        assertEquals(text, String.join("", chunks));
+        assertEquals(List.of("ab", emoji + "c", "def", "g" + emoji), chunks);
+        for (String chunk : chunks) {
+            assertFalse(Character.isHighSurrogate(chunk.charAt(chunk.length() - 1)));
+        }
+    }
+
+    @Test
+    void testReadChunksOfEmptyFile(@TempDir Path directory) throws IOException {
+        Path file = Files.createFile(directory.resolve("empty.txt"));
+        List<String> chunks = new ArrayList<>();
+
+        FileReaders.readChunks(file, 16, chunk -> chunks.add(chunk.toString()));
+
+        assertEquals(List.of(), chunks);
+        assertThrows(IllegalArgumentException.class, () -> FileReaders.readChunks(file, 1, chunk -> {
+        }));
+    }
+
+    @Test
+    void testReadWholeFileAsync(@TempDir Path directory) throws Exception {
+        String line = "Async line, що має не лише ASCII символи\n";
+        String text = line.repeat(5 * (1 << 16) / line.length());
+        Path file = Files.write(directory.resolve("large.txt"), text.getBytes(StandardCharsets.UTF_8));
+        Path emptyFile = Files.createFile(directory.resolve("empty.txt"));
+
+        assertEquals(text, FileReaders.readWholeFileAsync(file).get(10, TimeUnit.SECONDS));
+        assertEquals("", FileReaders.readWholeFileAsync(emptyFile).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testReadWholeFileAsyncOnNonExistingFile(@TempDir Path directory) {
+        CompletableFuture<String> content = FileReaders.readWholeFileAsync(directory.resolve("blahblah.txt"));
+
+        CompletionException exception = assertThrows(CompletionException.class, content::join);
+        assertTrue(exception.getCause() instanceof IOException);
+    }
+
+    @Test
+    void testReadWholeFilesAsync(@TempDir Path directory) throws Exception {
+        List<Path> files = new ArrayList<>();
+        List<String> expectedContents = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String content = "File #" + i;
+            files.add(Files.write(directory.resolve(i + ".txt"), content.getBytes(StandardCharsets.UTF_8)));
+            expectedContents.add(content);
+        }
+
+        assertEquals(expectedContents, FileReaders.readWholeFilesAsync(files, 2).get(10, TimeUnit.SECONDS));
+        assertEquals(expectedContents, FileReaders.readWholeFilesAsync(files).get(10, TimeUnit.SECONDS));
+
+        files.add(directory.resolve("blahblah.txt"));
+        CompletableFuture<List<String>> contents = FileReaders.readWholeFilesAsync(files, 2);
+        assertThrows(CompletionException.class, contents::join);
+    }
+
+    @Test
+    void testReadManyEmptyAndMissingFilesAsync(@TempDir Path directory) throws Exception {
+        List<Path> emptyFiles = new ArrayList<>();
+        List<Path> missingFiles = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            emptyFiles.add(Files.createFile(directory.resolve(i + ".txt")));
+            missingFiles.add(directory.resolve("missing" + i + ".txt"));
+        }
+
+        for (int maxConcurrentReads : new int[]{1, 64}) {
+            List<String> contents = FileReaders.readWholeFilesAsync(emptyFiles, maxConcurrentReads)
+                    .get(30, TimeUnit.SECONDS);
+            assertEquals(3000, contents.size());
+            assertTrue(contents.stream().allMatch(String::isEmpty));
+
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> FileReaders.readWholeFilesAsync(missingFiles, maxConcurrentReads).get(30, TimeUnit.SECONDS));
+            assertTrue(exception.getCause() instanceof IOException);
+        }
+    }
+
+    @Test
+    void testReadWholeFilesAsyncWithNullFile(@TempDir Path directory) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            files.add(Files.write(directory.resolve(i + ".txt"), ("File #" + i).getBytes(StandardCharsets.UTF_8)));
+        }
+        files.add(1, null);
+
+        for (int maxConcurrentReads : new int[]{1, 64}) {
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> FileReaders.readWholeFilesAsync(files, maxConcurrentReads).get(10, TimeUnit.SECONDS));
+            assertTrue(exception.getCause() instanceof NullPointerException);
+        }
+    }
+
+    @Test
+    void testReadWholeFileWithCharset(@TempDir Path directory) throws IOException {
+        Charset windows1251 = Charset.forName("windows-1251");
+        String asciiText = "Plain ASCII text, longer than one word\n";
+        String cyrillicText = asciiText + "Привіт!";
+        Path asciiFile = Files.write(directory.resolve("ascii.txt"), asciiText.getBytes(windows1251));
+        Path cyrillicFile = Files.write(directory.resolve("cyrillic.txt"), cyrillicText.getBytes(windows1251));
+        Path latin1File = Files.write(directory.resolve("latin1.txt"), "Grüße".getBytes(StandardCharsets.ISO_8859_1));
+        Path utf16File = Files.write(directory.resolve("utf16.txt"), asciiText.getBytes(StandardCharsets.UTF_16LE));
+
+        assertEquals(asciiText, FileReaders.readWholeFile(asciiFile, windows1251));
+        assertEquals(cyrillicText, FileReaders.readWholeFile(cyrillicFile, windows1251));
+        assertEquals("Grüße", FileReaders.readWholeFile(latin1File, StandardCharsets.ISO_8859_1));
+        assertEquals(asciiText, FileReaders.readWholeFile(utf16File, StandardCharsets.UTF_16LE));
+        try (Stream<String> lines = FileReaders.lines(cyrillicFile, windows1251)) {
+            assertEquals(List.of(asciiText.trim(), "Привіт!"), lines.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testReadWithCharsetByNameAsyncAndByChunks(@TempDir Path directory) throws Exception {
+        Charset eucJp = Charset.forName("EUC-JP");
+        String text = "Plain ASCII text, then 日本語のテキスト\n";
+        Path file = Files.write(directory.resolve("japanese.txt"), text.getBytes(eucJp));
+        List<String> chunks = new ArrayList<>();
+
+        FileReaders.readChunks(file, 8, eucJp, chunk -> chunks.add(chunk.toString()));
+
+        assertEquals(text, FileReaders.readWholeFile(file.toString(), eucJp));
+        assertEquals(text, FileReaders.readWholeFileAsync(file, eucJp).get(10, TimeUnit.SECONDS));
+        assertEquals(List.of(text, text),
+                FileReaders.readWholeFilesAsync(List.of(file, file), 1, eucJp).get(10, TimeUnit.SECONDS));
+        assertEquals(text, String.join("", chunks));
+    }
 }
@@ -0,0 +1,58 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TextDecoderTest {
+
+    @Test
+    void testIsAscii() {
+        byte[] bytes = "0123456789abcdefXYZ".getBytes(StandardCharsets.US_ASCII);
+
+        assertTrue(TextDecoder.isAscii(bytes, bytes.length));
+        assertTrue(TextDecoder.isAscii(new byte[0], 0));
+
+        for (int index = 0; index < bytes.length; index++) {
+            byte[] withHighByte = bytes.clone();
+            withHighByte[index] = (byte) 0xC3;
+            assertFalse(TextDecoder.isAscii(withHighByte, withHighByte.length));
+            assertTrue(TextDecoder.isAscii(withHighByte, index));
+        }
+    }
+
+    @Test
+    void testDecode() {
+        byte[] utf8 = "abc€".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals("abc€", TextDecoder.decode(utf8, utf8.length, StandardCharsets.UTF_8));
+        assertEquals("ab", TextDecoder.decode(utf8, 2, StandardCharsets.UTF_8));
+        assertEquals("abcâ\u0082¬", TextDecoder.decode(utf8, utf8.length, StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void testNeedsAsciiScan() {
+        assertFalse(TextDecoder.needsAsciiScan(StandardCharsets.UTF_8));
+        assertFalse(TextDecoder.needsAsciiScan(StandardCharsets.US_ASCII));
+        assertFalse(TextDecoder.needsAsciiScan(StandardCharsets.ISO_8859_1));
+        assertFalse(TextDecoder.needsAsciiScan(Charset.forName("windows-1252")));
+        assertFalse(TextDecoder.needsAsciiScan(StandardCharsets.UTF_16LE));
+        assertTrue(TextDecoder.needsAsciiScan(Charset.forName("EUC-JP")));
+        assertTrue(TextDecoder.needsAsciiScan(Charset.forName("GB18030")));
+    }
+
+    @Test
+    void testDecodeInMultibyteCharset() {
+        Charset eucJp = Charset.forName("EUC-JP");
+        byte[] ascii = "Plain ASCII text, longer than one word".getBytes(eucJp);
+        byte[] japanese = "ASCII text and 日本語".getBytes(eucJp);
+
+        assertEquals("Plain ASCII text, longer than one word", TextDecoder.decode(ascii, ascii.length, eucJp));
+        assertEquals("ASCII text and 日本語", TextDecoder.decode(japanese, japanese.length, eucJp));
+    }
+}
@@ -0,0 +1,92 @@
+package com.bobocode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * {@link CharCountTask} counts characters of a byte range of a file on a {@link java.util.concurrent.ForkJoinPool}.
+ * A range that is larger than the threshold is split in halves, and the split point is moved forward to the start of
+ * a UTF-8 sequence, so no character is shared between two ranges. Each leaf task counts its range into its own
+ * {@link Utf8CharCounter}, and histograms are merged when subtasks are joined.
+ */
+class CharCountTask extends RecursiveTask<CharHistogram> {
+    private static final int MAX_CONTINUATION_BYTES = 3;
+
+    private final FileChannel channel;
+    private final long start;
+    private final long end;
+    private final long threshold;
+
+    CharCountTask(FileChannel channel, long start, long end, long threshold) {
+        this.channel = channel;
+        this.start = start;
+        this.end = end;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected CharHistogram compute() {
+        try {
+            if (end - start <= threshold) {
+                return countRange(channel, start, end);
+            }
+            long middle = alignToSequenceStart(channel, start + (end - start) / 2, end);
+            CharCountTask left = new CharCountTask(channel, start, middle, threshold);
+            CharCountTask right = new CharCountTask(channel, middle, end, threshold);
+            left.fork();
+            CharHistogram histogram = right.compute();
+            histogram.merge(left.join());
+            return histogram;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Decodes and counts characters of the byte range, mapping it by windows of {@link FileStats#WINDOW_SIZE} bytes.
+     *
+     * @param channel a file channel
+     * @param start   first byte position, inclusive
+     * @param end     last byte position, exclusive
+     * @return number of occurrences of each code point
+     * @throws IOException if the file cannot be mapped
+     */
+    static CharHistogram countRange(FileChannel channel, long start, long end) throws IOException {
+        Utf8CharCounter counter = new Utf8CharCounter();
+        countRange(channel, start, end, counter);
+        counter.finish();
+        return counter.histogram();
+    }
+
+    /**
+     * Decodes and counts characters of the byte range with provided counter, that is not finished afterwards, so a
+     * multi-byte sequence at the end of the range stays pending.
+     *
+     * @param channel a file channel
+     * @param start   first byte position, inclusive
+     * @param end     last byte position, exclusive
+     * @param counter a counter to use
+     * @throws IOException if the file cannot be mapped
+     */
+    static void countRange(FileChannel channel, long start, long end, Utf8CharCounter counter) throws IOException {
+        for (long position = start; position < end; position += FileStats.WINDOW_SIZE) {
+            counter.count(channel.map(FileChannel.MapMode.READ_ONLY, position,
+                    Math.min(FileStats.WINDOW_SIZE, end - position)));
+        }
+    }
+
+    private static long alignToSequenceStart(FileChannel channel, long position, long end) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(MAX_CONTINUATION_BYTES);
+        channel.read(bytes, position);
+        for (int i = 0; i < bytes.position() && position < end; i++) {
+            if ((bytes.get(i) & 0xC0) != 0x80) {
+                break;
+            }
+            position++;
+        }
+        return position;
+    }
+}
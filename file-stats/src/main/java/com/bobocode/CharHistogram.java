@@ -0,0 +1,208 @@
+package com.bobocode;
+
+import java.util.Arrays;
+
+/**
+ * {@link CharHistogram} counts occurrences of Unicode code points without boxing. Characters of the Basic Multilingual
+ * Plane are counted in a dense table of {@code 65536} counters indexed by the character itself. Supplementary code
+ * points are rare in most texts, so they are counted in a small open addressing hash table of primitive keys and
+ * values, that grows only when such code points appear. It is not thread-safe.
+ */
+class CharHistogram {
+    private static final int INITIAL_SPARSE_CAPACITY = 16;
+    private static final int NO_CODE_POINT = -1;
+
+    private final long[] bmpCounts = new long[Character.MAX_VALUE + 1];
+    private int[] sparseCodePoints = new int[0];
+    private long[] sparseCounts = new long[0];
+    private int sparseSize;
+
+    /**
+     * Adds one occurrence of the code point.
+     *
+     * @param codePoint a valid Unicode code point
+     */
+    void increment(int codePoint) {
+        if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            bmpCounts[codePoint]++;
+        } else {
+            int slot = sparseSlot(codePoint);
+            sparseCounts[slot]++;
+        }
+    }
+
+    /**
+     * Adds a number of occurrences of the code point.
+     *
+     * @param codePoint a valid Unicode code point
+     * @param count     number of occurrences to add
+     */
+    void add(int codePoint, long count) {
+        if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            bmpCounts[codePoint] += count;
+        } else if (count != 0) {
+            int slot = sparseSlot(codePoint);
+            sparseCounts[slot] += count;
+        }
+    }
+
+    /**
+     * Creates an independent copy of the histogram.
+     *
+     * @return a new histogram with the same counts
+     */
+    CharHistogram copy() {
+        CharHistogram copy = new CharHistogram();
+        System.arraycopy(bmpCounts, 0, copy.bmpCounts, 0, bmpCounts.length);
+        copy.sparseCodePoints = sparseCodePoints.clone();
+        copy.sparseCounts = sparseCounts.clone();
+        copy.sparseSize = sparseSize;
+        return copy;
+    }
+
+    /**
+     * Adds all counts of another histogram to this one.
+     *
+     * @param other a histogram to add
+     */
+    void merge(CharHistogram other) {
+        for (int i = 0; i < bmpCounts.length; i++) {
+            bmpCounts[i] += other.bmpCounts[i];
+        }
+        for (int i = 0; i < other.sparseCodePoints.length; i++) {
+            if (other.sparseCodePoints[i] != NO_CODE_POINT) {
+                add(other.sparseCodePoints[i], other.sparseCounts[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the dense table of Basic Multilingual Plane counters, that may be updated directly in hot loops.
+     *
+     * @return number of occurrences of each character
+     */
+    long[] bmpCounts() {
+        return bmpCounts;
+    }
+
+    /**
+     * Returns a number of occurrences of the code point.
+     *
+     * @param codePoint a code point
+     * @return number of occurrences
+     */
+    long count(int codePoint) {
+        if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            return codePoint < 0 ? 0 : bmpCounts[codePoint];
+        }
+        if (sparseSize == 0) {
+            return 0;
+        }
+        int mask = sparseCodePoints.length - 1;
+        for (int slot = hash(codePoint) & mask; ; slot = (slot + 1) & mask) {
+            if (sparseCodePoints[slot] == codePoint) {
+                return sparseCounts[slot];
+            }
+            if (sparseCodePoints[slot] == NO_CODE_POINT) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns all code points that have a non-zero count.
+     *
+     * @return distinct code points in ascending order
+     */
+    int[] codePoints() {
+        int bmpSize = 0;
+        for (long count : bmpCounts) {
+            if (count != 0) {
+                bmpSize++;
+            }
+        }
+        int[] codePoints = new int[bmpSize + sparseSize];
+        int size = 0;
+        for (int character = 0; character < bmpCounts.length; character++) {
+            if (bmpCounts[character] != 0) {
+                codePoints[size++] = character;
+            }
+        }
+        for (int i = 0; i < sparseCodePoints.length; i++) {
+            if (sparseCodePoints[i] != NO_CODE_POINT && sparseCounts[i] != 0) {
+                codePoints[size++] = sparseCodePoints[i];
+            }
+        }
+        Arrays.sort(codePoints, bmpSize, size);
+        return Arrays.copyOf(codePoints, size);
+    }
+
+    /**
+     * Resets counters of all whitespace characters.
+     */
+    void clearWhitespace() {
+        for (int character = 0; character < bmpCounts.length; character++) {
+            if (Character.isWhitespace(character)) {
+                bmpCounts[character] = 0;
+            }
+        }
+    }
+
+    /**
+     * Returns a character of the Basic Multilingual Plane that has the largest count. In case of a tie, the smallest
+     * character is returned.
+     *
+     * @return the most frequent character
+     */
+    char mostPopularChar() {
+        int mostPopular = 0;
+        for (int character = 1; character < bmpCounts.length; character++) {
+            if (bmpCounts[character] > bmpCounts[mostPopular]) {
+                mostPopular = character;
+            }
+        }
+        return (char) mostPopular;
+    }
+
+    private int sparseSlot(int codePoint) {
+        if ((sparseSize + 1) * 2 > sparseCodePoints.length) {
+            resizeSparse();
+        }
+        int mask = sparseCodePoints.length - 1;
+        int slot = hash(codePoint) & mask;
+        while (sparseCodePoints[slot] != codePoint) {
+            if (sparseCodePoints[slot] == NO_CODE_POINT) {
+                sparseCodePoints[slot] = codePoint;
+                sparseSize++;
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resizeSparse() {
+        int[] oldCodePoints = sparseCodePoints;
+        long[] oldCounts = sparseCounts;
+        int newCapacity = Math.max(INITIAL_SPARSE_CAPACITY, oldCodePoints.length * 2);
+        sparseCodePoints = new int[newCapacity];
+        sparseCounts = new long[newCapacity];
+        Arrays.fill(sparseCodePoints, NO_CODE_POINT);
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldCodePoints.length; i++) {
+            if (oldCodePoints[i] != NO_CODE_POINT) {
+                int slot = hash(oldCodePoints[i]) & mask;
+                while (sparseCodePoints[slot] != NO_CODE_POINT) {
+                    slot = (slot + 1) & mask;
+                }
+                sparseCodePoints[slot] = oldCodePoints[i];
+                sparseCounts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private static int hash(int codePoint) {
+        int h = codePoint * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -1,37 +1,299 @@
 package com.bobocode;
 
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
 /**
  * {@link FileStats} provides an API that allow to get character statistic based on text file. All whitespace characters
  * are ignored.
+ * <p>
+ * The file is never loaded into the heap. It is mapped into memory with {@link FileChannel#map} by windows of
+ * {@value WINDOW_SIZE} bytes, and UTF-8 bytes are decoded right from the mapped buffer into a {@link CharHistogram},
+ * so heap usage does not depend on a file size. Characters are counted in a dense primitive table, and rare
+ * supplementary code points in a small primitive hash table, so all queries take constant time and do not allocate.
+ * The most popular character and a full frequency ranking of all code points are computed once, when the object is
+ * created, so ranking queries {@link FileStats#topK(int)}, {@link FileStats#frequencyRank(char)} and
+ * {@link FileStats#entries()} do not scan the histogram again.
+ * <p>
+ * Large files may be counted in parallel with {@link FileStats#from(Path, int)}. The file is split into byte ranges
+ * aligned on UTF-8 sequence boundaries, that are counted by fork/join tasks into separate tables and merged.
+ * <p>
+ * Text that grows over time may be counted incrementally with a {@link FileStats.Builder}, that is created by
+ * {@link FileStats#builder()}. Statistic of many files may be combined with {@link FileStats#merge(FileStats...)}, or
+ * collected for a whole directory tree with {@link FileStats#fromDirectory(Path, String)}.
  */
 public class FileStats {
+    static final int WINDOW_SIZE = 1 << 26;
+    private static final long MIN_PARALLEL_RANGE = 1 << 20;
+    private static final int RANGES_PER_THREAD = 4;
+
+    private static final Comparator<Entry> BY_FREQUENCY = Comparator.comparingLong(Entry::getCount).reversed()
+            .thenComparingInt(Entry::getCodePoint);
+
+    private final CharHistogram histogram;
+    private final char mostPopularCharacter;
+    private final List<Entry> entries;
+
+    private FileStats(CharHistogram histogram) {
+        histogram.clearWhitespace();
+        this.histogram = histogram;
+        this.mostPopularCharacter = histogram.mostPopularChar();
+        this.entries = rank(histogram);
+    }
+
+    private static List<Entry> rank(CharHistogram histogram) {
+        int[] codePoints = histogram.codePoints();
+        Entry[] ranking = new Entry[codePoints.length];
+        for (int i = 0; i < codePoints.length; i++) {
+            ranking[i] = new Entry(codePoints[i], histogram.count(codePoints[i]));
+        }
+        Arrays.sort(ranking, BY_FREQUENCY);
+        return Collections.unmodifiableList(Arrays.asList(ranking));
+    }
+
     /**
      * Creates a new immutable {@link FileStats} objects using data from text file received as a parameter.
+     * A file is looked up in the classpath first, and then in the file system.
      *
      * @param fileName input text file name
      * @return new FileStats object created from text file
      */
     public static FileStats from(String fileName) {
-        throw new UnsupportedOperationException("It's your job to make it work!"); //todo
+        Objects.requireNonNull(fileName);
+        return from(resolvePath(fileName));
+    }
+
+    /**
+     * Creates a new immutable {@link FileStats} objects using data from text file received as a parameter.
+     *
+     * @param file input text file
+     * @return new FileStats object created from text file
+     */
+    public static FileStats from(Path file) {
+        Objects.requireNonNull(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new FileStats(CharCountTask.countRange(channel, 0, channel.size()));
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot read file " + file, e);
+        }
+    }
+
+    /**
+     * Creates a new immutable {@link FileStats} objects using data from text file received as a parameter. The file is
+     * split into byte ranges, that are counted in parallel on a {@link ForkJoinPool} with provided parallelism.
+     *
+     * @param file        input text file
+     * @param parallelism number of threads used for counting
+     * @return new FileStats object created from text file
+     */
+    public static FileStats from(Path file, int parallelism) {
+        Objects.requireNonNull(file);
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        if (parallelism == 1) {
+            return from(file);
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long threshold = Math.max(MIN_PARALLEL_RANGE, size / ((long) parallelism * RANGES_PER_THREAD));
+            return new FileStats(pool.invoke(new CharCountTask(channel, 0, size, threshold)));
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot read file " + file, e);
+        } catch (UncheckedIOException e) {
+            throw new FileStatsException("Cannot read file " + file, e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Creates a new immutable {@link FileStats} objects using data from all files of the directory tree, which names
+     * match the glob pattern, e.g. {@code *.log}. Files are counted concurrently by a fixed number of threads, that
+     * is equal to the number of available processors.
+     *
+     * @param directory a root directory
+     * @param glob      a glob pattern, that is matched against file names
+     * @return new FileStats object created from all matching files
+     */
+    public static FileStats fromDirectory(Path directory, String glob) {
+        return fromDirectory(directory, glob, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new immutable {@link FileStats} objects using data from all files of the directory tree, which names
+     * match the glob pattern, e.g. {@code *.log}. Files are counted concurrently by a fixed number of threads. Each
+     * thread takes next file from the directory walk and counts it into its own histogram, so memory usage depends
+     * only on the number of threads, and not on the number of files.
+     *
+     * @param directory   a root directory
+     * @param glob        a glob pattern, that is matched against file names
+     * @param parallelism number of threads used for counting
+     * @return new FileStats object created from all matching files
+     */
+    public static FileStats fromDirectory(Path directory, String glob, int parallelism) {
+        Objects.requireNonNull(directory);
+        Objects.requireNonNull(glob);
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        PathMatcher matcher = directory.getFileSystem().getPathMatcher("glob:" + glob);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try (Stream<Path> paths = Files.walk(directory)) {
+            Iterator<Path> files = paths
+                    .filter(Files::isRegularFile)
+                    .filter(path -> matcher.matches(path.getFileName()))
+                    .iterator();
+            List<Callable<CharHistogram>> workers = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                workers.add(() -> countFiles(files));
+            }
+            CharHistogram histogram = new CharHistogram();
+            for (Future<CharHistogram> result : executor.invokeAll(workers)) {
+                histogram.merge(result.get());
+            }
+            return new FileStats(histogram);
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot walk directory " + directory, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FileStatsException) {
+                throw (FileStatsException) e.getCause();
+            }
+            throw new FileStatsException("Cannot walk directory " + directory, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileStatsException("Interrupted while counting directory " + directory, e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Combines statistic of several texts into a new immutable {@link FileStats} object, as if all texts were
+     * counted together.
+     *
+     * @param fileStats statistic objects to combine
+     * @return new FileStats object that contains sums of all counts
+     */
+    public static FileStats merge(FileStats... fileStats) {
+        CharHistogram histogram = new CharHistogram();
+        for (FileStats stats : fileStats) {
+            histogram.merge(stats.histogram);
+        }
+        return new FileStats(histogram);
+    }
+
+    private static CharHistogram countFiles(Iterator<Path> files) {
+        Utf8CharCounter counter = new Utf8CharCounter();
+        while (true) {
+            Path file;
+            synchronized (files) {
+                if (!files.hasNext()) {
+                    return counter.histogram();
+                }
+                file = files.next();
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                CharCountTask.countRange(channel, 0, channel.size(), counter);
+                counter.finish();
+            } catch (IOException e) {
+                throw new FileStatsException("Cannot read file " + file, e);
+            }
+        }
+    }
+
+    /**
+     * Creates a new {@link FileStats.Builder}, that counts characters of text chunks incrementally.
+     *
+     * @return new empty builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private static Path resolvePath(String fileName) {
+        URL resource = FileStats.class.getClassLoader().getResource(fileName);
+        if (resource != null) {
+            try {
+                return Paths.get(resource.toURI());
+            } catch (URISyntaxException e) {
+                throw new FileStatsException("Invalid file URL " + resource, e);
+            }
+        }
+        Path file = Paths.get(fileName);
+        if (!Files.isRegularFile(file)) {
+            throw new FileStatsException("File " + fileName + " does not exist");
+        }
+        return file;
     }
 
     /**
-     * Returns a number of occurrences of the particular character.
+     * Returns a number of occurrences of the particular character. In case the number does not fit into {@code int},
+     * it returns {@link Integer#MAX_VALUE}.
      *
      * @param character a specific character
      * @return a number that shows how many times this character appeared in a text file
      */
     public int getCharCount(char character) {
-        throw new UnsupportedOperationException("It's your job to make it work!"); //todo
+        return (int) Math.min(histogram.count(character), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a number of occurrences of the particular character as {@code long}, which is needed for files that are
+     * larger than 2 GB.
+     *
+     * @param character a specific character
+     * @return a number that shows how many times this character appeared in a text file
+     */
+    public long getCharCountAsLong(char character) {
+        return histogram.count(character);
     }
 
     /**
-     * Returns a character that appeared most often in the text.
+     * Returns a number of occurrences of the particular code point, including supplementary code points that do not
+     * fit into a single {@code char}. Surrogate characters are never counted on their own.
+     *
+     * @param codePoint a specific Unicode code point
+     * @return a number that shows how many times this code point appeared in a text file
+     */
+    public long getCodePointCount(int codePoint) {
+        return histogram.count(codePoint);
+    }
+
+    /**
+     * Returns a character that appeared most often in the text. Supplementary code points are not taken into account.
      *
      * @return the most frequently appeared character
      */
     public char getMostPopularCharacter() {
-        throw new UnsupportedOperationException("It's your job to make it work!"); //todo
+        return mostPopularCharacter;
     }
 
     /**
@@ -41,6 +303,205 @@ public class FileStats {
      * @return {@code true} if this character has appeared in the text, and {@code false} otherwise
      */
     public boolean containsCharacter(char character) {
-        throw new UnsupportedOperationException("It's your job to make it work!"); //todo
+        return histogram.count(character) > 0;
+    }
+
+    /**
+     * Returns up to {@code k} most frequent code points, starting from the most frequent one. Code points with the same
+     * count are ordered by their values.
+     *
+     * @param k max number of entries
+     * @return unmodifiable list of the most frequent code points and their counts
+     */
+    public List<Entry> topK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("K cannot be negative");
+        }
+        return entries.subList(0, Math.min(k, entries.size()));
+    }
+
+    /**
+     * Returns a position of the character in the frequency ranking. The most frequent character has rank {@code 1}.
+     * It takes logarithmic time, since the rank is found by a binary search in the ranking.
+     *
+     * @param character a specific character
+     * @return rank of the character, or {@code -1} if this character has not appeared in the text
+     */
+    public int frequencyRank(char character) {
+        long count = histogram.count(character);
+        if (count == 0) {
+            return -1;
+        }
+        int index = Collections.binarySearch(entries, new Entry(character, count), BY_FREQUENCY);
+        return index + 1;
+    }
+
+    /**
+     * Returns all code points that have appeared in the text with their counts, sorted from the most frequent one.
+     * Code points with the same count are ordered by their values.
+     *
+     * @return unmodifiable list of all code points and their counts
+     */
+    public List<Entry> entries() {
+        return entries;
+    }
+
+    /**
+     * {@link Entry} is a code point with a number of its occurrences in the text.
+     */
+    @Value
+    public static class Entry {
+        int codePoint;
+        long count;
+    }
+
+    /**
+     * {@link Builder} accumulates character statistic of text, that is received by chunks. Chunks may be provided as
+     * {@link CharSequence}, UTF-8 encoded {@link ByteBuffer} or {@link InputStream}, or as a range of a growing file,
+     * that starts at a saved offset. A multi-byte character or a surrogate pair may be split between two chunks.
+     * <p>
+     * Method {@link Builder#build()} returns an immutable snapshot of current statistic, and the builder may be used
+     * further. A snapshot never changes, so it can be safely published to other threads. A character that is not
+     * complete yet is not included into a snapshot. The builder is not thread-safe.
+     * <p>
+     * A snapshot is not cheap. It copies the dense table of 65,536 {@code long} counts (512 KB), scans it for counted
+     * characters and sorts all counted code points into the ranking, however little text was appended since the
+     * previous snapshot. Snapshots should be built once per batch of chunks, rather than after each small chunk. The
+     * last snapshot is kept, and it is returned again if nothing was appended since it was built.
+     */
+    public static class Builder {
+        private static final int STREAM_BUFFER_SIZE = 8192;
+        private static final int MAX_SEQUENCE_LENGTH = 4;
+
+        private final Utf8CharCounter counter = new Utf8CharCounter();
+        private char pendingHighSurrogate;
+        private FileStats snapshot;
+
+        private Builder() {
+        }
+
+        /**
+         * Counts characters of the text chunk.
+         *
+         * @param text a text chunk
+         * @return this builder
+         */
+        public Builder append(CharSequence text) {
+            snapshot = null;
+            CharHistogram histogram = counter.histogram();
+            for (int i = 0; i < text.length(); i++) {
+                char character = text.charAt(i);
+                if (pendingHighSurrogate != 0) {
+                    if (Character.isLowSurrogate(character)) {
+                        histogram.increment(Character.toCodePoint(pendingHighSurrogate, character));
+                        pendingHighSurrogate = 0;
+                        continue;
+                    }
+                    histogram.increment(Utf8CharCounter.REPLACEMENT_CHARACTER);
+                    pendingHighSurrogate = 0;
+                }
+                if (Character.isHighSurrogate(character)) {
+                    pendingHighSurrogate = character;
+                } else if (Character.isLowSurrogate(character)) {
+                    histogram.increment(Utf8CharCounter.REPLACEMENT_CHARACTER);
+                } else {
+                    histogram.increment(character);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Counts characters of UTF-8 encoded bytes. All remaining bytes of the buffer are consumed, so its position is
+         * set to its limit.
+         *
+         * @param bytes UTF-8 encoded text chunk
+         * @return this builder
+         */
+        public Builder append(ByteBuffer bytes) {
+            snapshot = null;
+            counter.count(bytes);
+            bytes.position(bytes.limit());
+            return this;
+        }
+
+        /**
+         * Reads the stream till the end and counts characters of UTF-8 encoded bytes. The stream is not closed.
+         *
+         * @param inputStream UTF-8 encoded text
+         * @return this builder
+         */
+        public Builder append(InputStream inputStream) {
+            snapshot = null;
+            byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+            try {
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    counter.count(ByteBuffer.wrap(buffer, 0, read));
+                }
+            } catch (IOException e) {
+                throw new FileStatsException("Cannot read input stream", e);
+            }
+            return this;
+        }
+
+        /**
+         * Counts characters of the file, that were appended after the offset. Bytes of a character, that is not
+         * written completely yet, are left for the next call. The returned offset should be saved and passed to the
+         * next call, even if it is made by a new builder.
+         *
+         * @param file   a growing UTF-8 text file
+         * @param offset a number of bytes that were already counted
+         * @return a new offset, that points right after the last counted character
+         */
+        public long appendFile(Path file, long offset) {
+            Objects.requireNonNull(file);
+            if (offset < 0) {
+                throw new IllegalArgumentException("Offset cannot be negative");
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size < offset) {
+                    throw new FileStatsException("File " + file + " is shorter than offset " + offset);
+                }
+                long end = completeSequencesEnd(channel, offset, size);
+                snapshot = null;
+                CharCountTask.countRange(channel, offset, end, counter);
+                return end;
+            } catch (IOException e) {
+                throw new FileStatsException("Cannot read file " + file, e);
+            }
+        }
+
+        /**
+         * Creates an immutable snapshot of characters counted so far. The counting tables are copied and ranked, unless
+         * nothing was appended since the previous call, and then the same snapshot is returned.
+         *
+         * @return FileStats object with current statistic
+         */
+        public FileStats build() {
+            if (snapshot == null) {
+                snapshot = new FileStats(counter.histogram().copy());
+            }
+            return snapshot;
+        }
+
+        private static long completeSequencesEnd(FileChannel channel, long offset, long size) throws IOException {
+            long tailStart = Math.max(offset, size - MAX_SEQUENCE_LENGTH);
+            ByteBuffer tail = ByteBuffer.allocate((int) (size - tailStart));
+            while (tail.hasRemaining()) {
+                if (channel.read(tail, tailStart + tail.position()) == -1) {
+                    break;
+                }
+            }
+            for (int i = tail.position() - 1; i >= 0; i--) {
+                byte b = tail.get(i);
+                if ((b & 0xC0) != 0x80) {
+                    int length = (b & 0xE0) == 0xC0 ? 2 : (b & 0xF0) == 0xE0 ? 3 : (b & 0xF8) == 0xF0 ? 4 : 1;
+                    return i + length > tail.position() ? tailStart + i : size;
+                }
+            }
+            return size;
+        }
     }
 }
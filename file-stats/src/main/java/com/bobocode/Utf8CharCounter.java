@@ -0,0 +1,115 @@
+package com.bobocode;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * {@link Utf8CharCounter} decodes UTF-8 bytes and counts every decoded code point in a {@link CharHistogram}, so
+ * counting does not create any objects.
+ * <p>
+ * A multi-byte sequence may be split between two buffers, so decoder state is kept between
+ * {@link Utf8CharCounter#count(ByteBuffer)} calls. Malformed input is counted as U+FFFD replacement characters with
+ * simple rules: one for each invalid lead byte or stray continuation byte, one for a sequence that is interrupted by
+ * a non-continuation byte or cut off at {@link Utf8CharCounter#finish()}, and one for a complete sequence that decodes
+ * to an overlong form, a surrogate or a value above U+10FFFF. Such a sequence is checked only after all its bytes are
+ * read, so the number of replacement characters may differ from {@link String} decoding, that replaces each maximal
+ * invalid subpart. Valid input is counted exactly. It is not thread-safe.
+ */
+class Utf8CharCounter {
+    private static final long NON_ASCII_MASK = 0x8080808080808080L;
+    static final char REPLACEMENT_CHARACTER = '\uFFFD';
+
+    private final CharHistogram histogram = new CharHistogram();
+    private final long[] counts = histogram.bmpCounts();
+    private int codePoint;
+    private int pendingBytes;
+    private int minCodePoint;
+
+    /**
+     * Decodes and counts all remaining bytes of the buffer. Buffer position is not changed.
+     *
+     * @param buffer UTF-8 bytes
+     */
+    void count(ByteBuffer buffer) {
+        ByteBuffer bytes = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int index = bytes.position();
+        int limit = bytes.limit();
+        while (index < limit) {
+            if (pendingBytes == 0) {
+                while (index + Long.BYTES <= limit) {
+                    long word = bytes.getLong(index);
+                    if ((word & NON_ASCII_MASK) != 0) {
+                        break;
+                    }
+                    for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+                        counts[(int) (word >>> shift) & 0x7F]++;
+                    }
+                    index += Long.BYTES;
+                }
+                if (index == limit) {
+                    break;
+                }
+            }
+            accept(bytes.get(index++));
+        }
+    }
+
+    /**
+     * Counts a sequence, that was cut off at the end of the input.
+     */
+    void finish() {
+        if (pendingBytes > 0) {
+            pendingBytes = 0;
+            counts[REPLACEMENT_CHARACTER]++;
+        }
+    }
+
+    /**
+     * Returns the histogram of counted code points. Whitespace characters are counted as well.
+     *
+     * @return number of occurrences of each code point
+     */
+    CharHistogram histogram() {
+        return histogram;
+    }
+
+    private void accept(byte b) {
+        if (pendingBytes > 0) {
+            if ((b & 0xC0) == 0x80) {
+                codePoint = codePoint << 6 | b & 0x3F;
+                if (--pendingBytes == 0) {
+                    countCodePoint();
+                }
+                return;
+            }
+            pendingBytes = 0;
+            counts[REPLACEMENT_CHARACTER]++;
+        }
+        if (b >= 0) {
+            counts[b]++;
+        } else if ((b & 0xE0) == 0xC0) {
+            startSequence(b & 0x1F, 1, 0x80);
+        } else if ((b & 0xF0) == 0xE0) {
+            startSequence(b & 0x0F, 2, 0x800);
+        } else if ((b & 0xF8) == 0xF0) {
+            startSequence(b & 0x07, 3, Character.MIN_SUPPLEMENTARY_CODE_POINT);
+        } else {
+            counts[REPLACEMENT_CHARACTER]++;
+        }
+    }
+
+    private void startSequence(int bits, int continuationBytes, int minValue) {
+        codePoint = bits;
+        pendingBytes = continuationBytes;
+        minCodePoint = minValue;
+    }
+
+    private void countCodePoint() {
+        if (codePoint < minCodePoint || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            counts[REPLACEMENT_CHARACTER]++;
+        } else {
+            histogram.increment(codePoint);
+        }
+    }
+}
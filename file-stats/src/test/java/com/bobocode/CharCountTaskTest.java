@@ -0,0 +1,50 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CharCountTaskTest {
+
+    @Test
+    void testSplitRangesAreAlignedOnUtf8Sequences(@TempDir Path directory) throws IOException {
+        String text = "Привіт, світ! € 😀 hello ".repeat(50);
+        Path file = Files.write(directory.resolve("text.txt"), text.getBytes(StandardCharsets.UTF_8));
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+
+            CharHistogram sequentialHistogram = CharCountTask.countRange(channel, 0, size);
+            CharHistogram parallelHistogram = pool.invoke(new CharCountTask(channel, 0, size, 7));
+
+            assertArrayEquals(sequentialHistogram.bmpCounts(), parallelHistogram.bmpCounts());
+            assertEquals(0, parallelHistogram.count('\uFFFD'));
+            assertEquals(100, parallelHistogram.count('т'));
+            assertEquals(50, parallelHistogram.count(0x1F600));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testCreateFileStatsInParallel(@TempDir Path directory) throws IOException {
+        Path file = Files.write(directory.resolve("text.txt"), "ab ba\nc".getBytes(StandardCharsets.UTF_8));
+
+        FileStats fileStats = FileStats.from(file, 4);
+
+        assertEquals(2, fileStats.getCharCount('a'));
+        assertEquals(1, fileStats.getCharCount('c'));
+        assertThrows(IllegalArgumentException.class, () -> FileStats.from(file, 0));
+    }
+}
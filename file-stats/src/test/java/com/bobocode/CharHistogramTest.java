@@ -0,0 +1,58 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CharHistogramTest {
+
+    @Test
+    void testCountSupplementaryCodePointsBeyondInitialCapacity() {
+        CharHistogram histogram = new CharHistogram();
+
+        for (int codePoint = 0x1F600; codePoint < 0x1F700; codePoint++) {
+            histogram.increment(codePoint);
+            histogram.add(codePoint, codePoint - 0x1F600);
+        }
+
+        for (int codePoint = 0x1F600; codePoint < 0x1F700; codePoint++) {
+            assertEquals(codePoint - 0x1F600 + 1, histogram.count(codePoint));
+        }
+        assertEquals(0, histogram.count(0x1F700));
+        assertEquals(0, histogram.count(Character.MAX_CODE_POINT));
+    }
+
+    @Test
+    void testMerge() {
+        CharHistogram first = new CharHistogram();
+        CharHistogram second = new CharHistogram();
+        first.increment('a');
+        first.increment(0x1F600);
+        second.add('a', 2);
+        second.add('b', 5);
+        second.add(0x1F600, 3);
+        second.add(0x10000, 1);
+
+        first.merge(second);
+
+        assertEquals(3, first.count('a'));
+        assertEquals(5, first.count('b'));
+        assertEquals(4, first.count(0x1F600));
+        assertEquals(1, first.count(0x10000));
+        assertEquals('b', first.mostPopularChar());
+    }
+
+    @Test
+    void testClearWhitespace() {
+        CharHistogram histogram = new CharHistogram();
+        histogram.add(' ', 10);
+        histogram.add('\t', 10);
+        histogram.add('x', 1);
+
+        histogram.clearWhitespace();
+
+        assertEquals(0, histogram.count(' '));
+        assertEquals(0, histogram.count('\t'));
+        assertEquals('x', histogram.mostPopularChar());
+    }
+}
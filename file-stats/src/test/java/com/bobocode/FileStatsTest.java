@@ -2,6 +2,16 @@ package com.bobocode;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -60,4 +70,157 @@ public class FileStatsTest {
         assertTrue(springArticleContainsExistingCharacter);
         assertFalse(springArticleContainsWhitespace);
     }
+
+    @Test
+    void testCreateFileStatsFromFileSystemPath(@TempDir Path directory) throws IOException {
+        Path file = Files.write(directory.resolve("text.txt"), "Привіт, світ!\nhi".getBytes(StandardCharsets.UTF_8));
+
+        FileStats fileStats = FileStats.from(file.toAbsolutePath().toString());
+
+        assertEquals(2, fileStats.getCharCount('і'));
+        assertEquals(2, fileStats.getCharCount('т'));
+        assertEquals(1, fileStats.getCharCount('h'));
+        assertFalse(fileStats.containsCharacter('\n'));
+        assertEquals(2L, FileStats.from(file).getCharCountAsLong('і'));
+    }
+
+    @Test
+    void testGetCodePointCount(@TempDir Path directory) throws IOException {
+        String emoji = new String(Character.toChars(0x1F600));
+        Path file = Files.write(directory.resolve("text.txt"), (emoji + " a " + emoji).getBytes(StandardCharsets.UTF_8));
+
+        FileStats fileStats = FileStats.from(file);
+
+        assertEquals(2, fileStats.getCodePointCount(0x1F600));
+        assertEquals(1, fileStats.getCodePointCount('a'));
+        assertFalse(fileStats.containsCharacter(emoji.charAt(0)));
+        assertEquals('a', fileStats.getMostPopularCharacter());
+    }
+
+    @Test
+    void testBuilderCountsChunksSplitInsideCharacters() {
+        String emoji = new String(Character.toChars(0x1F600));
+        byte[] bytes = "€ x".getBytes(StandardCharsets.UTF_8);
+        FileStats.Builder builder = FileStats.builder()
+                .append("ab" + emoji.charAt(0))
+                .append(emoji.charAt(1) + " a")
+                .append(ByteBuffer.wrap(bytes, 0, 1));
+
+        FileStats beforeLastChunk = builder.build();
+        builder.append(ByteBuffer.wrap(bytes, 1, bytes.length - 1))
+                .append(new ByteArrayInputStream("€a".getBytes(StandardCharsets.UTF_8)));
+        FileStats afterLastChunk = builder.build();
+
+        assertEquals(2, beforeLastChunk.getCharCount('a'));
+        assertEquals(0, beforeLastChunk.getCharCount('€'));
+        assertEquals(1, beforeLastChunk.getCodePointCount(0x1F600));
+        assertEquals(3, afterLastChunk.getCharCount('a'));
+        assertEquals(2, afterLastChunk.getCharCount('€'));
+        assertEquals(1, afterLastChunk.getCharCount('x'));
+        assertFalse(afterLastChunk.containsCharacter('\uFFFD'));
+    }
+
+    @Test
+    void testBuilderReusesSnapshotUntilNextChunk() {
+        FileStats.Builder builder = FileStats.builder().append("ab");
+
+        FileStats snapshot = builder.build();
+        FileStats sameSnapshot = builder.build();
+        FileStats nextSnapshot = builder.append(ByteBuffer.wrap(new byte[]{'a'})).build();
+
+        assertTrue(snapshot == sameSnapshot);
+        assertFalse(snapshot == nextSnapshot);
+        assertEquals(1, snapshot.getCharCount('a'));
+        assertEquals(2, nextSnapshot.getCharCount('a'));
+    }
+
+    @Test
+    void testBuilderResumesFromSavedFileOffset(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("log.txt");
+        byte[] euro = "€".getBytes(StandardCharsets.UTF_8);
+        Files.write(file, new byte[]{'a', 'b', euro[0], euro[1]});
+
+        long offset = FileStats.builder().appendFile(file, 0);
+        Files.write(file, new byte[]{euro[2], 'a'}, StandardOpenOption.APPEND);
+        FileStats.Builder resumedBuilder = FileStats.builder();
+        long newOffset = resumedBuilder.appendFile(file, offset);
+
+        assertEquals(2, offset);
+        assertEquals(Files.size(file), newOffset);
+        assertEquals(1, resumedBuilder.build().getCharCount('€'));
+        assertEquals(1, resumedBuilder.build().getCharCount('a'));
+        assertFalse(resumedBuilder.build().containsCharacter('b'));
+    }
+
+    @Test
+    void testMerge() {
+        FileStats lambdaArticleFileStats = FileStats.from("sotl.txt");
+        FileStats springCloudArticleFileStats = FileStats.from("scosb.txt");
+
+        FileStats mergedFileStats = FileStats.merge(lambdaArticleFileStats, springCloudArticleFileStats);
+
+        assertEquals(lambdaArticleFileStats.getCharCount('a') + springCloudArticleFileStats.getCharCount('a'),
+                mergedFileStats.getCharCount('a'));
+        assertEquals('e', mergedFileStats.getMostPopularCharacter());
+        assertFalse(FileStats.merge().containsCharacter('a'));
+    }
+
+    @Test
+    void testFromDirectory(@TempDir Path directory) throws IOException {
+        Path nestedDirectory = Files.createDirectories(directory.resolve("nested/deeper"));
+        Files.write(directory.resolve("first.log"), "aab".getBytes(StandardCharsets.UTF_8));
+        Files.write(nestedDirectory.resolve("second.log"), "a €".getBytes(StandardCharsets.UTF_8));
+        Files.write(nestedDirectory.resolve("ignored.txt"), "zzzz".getBytes(StandardCharsets.UTF_8));
+
+        FileStats fileStats = FileStats.fromDirectory(directory, "*.log", 2);
+
+        assertEquals(3, fileStats.getCharCount('a'));
+        assertEquals(1, fileStats.getCharCount('€'));
+        assertFalse(fileStats.containsCharacter('z'));
+        assertEquals(fileStats.getCharCount('a'), FileStats.fromDirectory(directory, "*.log").getCharCount('a'));
+    }
+
+    @Test
+    void testTopK() {
+        FileStats fileStats = FileStats.builder().append("bbb aa cc ddd e").build();
+
+        List<FileStats.Entry> topThree = fileStats.topK(3);
+
+        assertEquals(List.of(new FileStats.Entry('b', 3), new FileStats.Entry('d', 3), new FileStats.Entry('a', 2)),
+                topThree);
+        assertEquals(5, fileStats.topK(10).size());
+        assertTrue(fileStats.topK(0).isEmpty());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> fileStats.topK(-1));
+    }
+
+    @Test
+    void testFrequencyRank() {
+        FileStats lambdaArticleFileStats = FileStats.from("sotl.txt");
+        FileStats fileStats = FileStats.builder().append("bbb aa cc ddd e").build();
+
+        assertEquals(1, lambdaArticleFileStats.frequencyRank('e'));
+        assertEquals(1, fileStats.frequencyRank('b'));
+        assertEquals(2, fileStats.frequencyRank('d'));
+        assertEquals(3, fileStats.frequencyRank('a'));
+        assertEquals(4, fileStats.frequencyRank('c'));
+        assertEquals(5, fileStats.frequencyRank('e'));
+        assertEquals(-1, fileStats.frequencyRank('z'));
+        assertEquals(-1, fileStats.frequencyRank(' '));
+    }
+
+    @Test
+    void testEntriesAreSortedByFrequency() {
+        FileStats fileStats = FileStats.from("scosb.txt");
+
+        List<FileStats.Entry> entries = fileStats.entries();
+
+        assertEquals('e', entries.get(0).getCodePoint());
+        for (int i = 1; i < entries.size(); i++) {
+            assertTrue(entries.get(i - 1).getCount() >= entries.get(i).getCount());
+        }
+        for (FileStats.Entry entry : entries) {
+            assertEquals(entry.getCount(), fileStats.getCodePointCount(entry.getCodePoint()));
+        }
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> entries.remove(0));
+    }
 }
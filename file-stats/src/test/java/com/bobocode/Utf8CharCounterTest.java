@@ -0,0 +1,79 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class Utf8CharCounterTest {
+
+    @Test
+    void testCountAsciiAndMultiByteCharacters() {
+        Utf8CharCounter counter = new Utf8CharCounter();
+
+        counter.count(utf8("abcdefghijklmnop aaa ї€ї"));
+        counter.finish();
+
+        assertEquals(4, counter.histogram().count('a'));
+        assertEquals(1, counter.histogram().count('p'));
+        assertEquals(2, counter.histogram().count(' '));
+        assertEquals(2, counter.histogram().count('ї'));
+        assertEquals(1, counter.histogram().count('€'));
+    }
+
+    @Test
+    void testCountSupplementaryCodePoint() {
+        Utf8CharCounter counter = new Utf8CharCounter();
+        String text = new String(Character.toChars(0x1F600));
+
+        counter.count(utf8(text + text + "a"));
+        counter.finish();
+
+        assertEquals(2, counter.histogram().count(0x1F600));
+        assertEquals(0, counter.histogram().count(text.charAt(0)));
+        assertEquals(0, counter.histogram().count(text.charAt(1)));
+    }
+
+    @Test
+    void testCountSequenceSplitBetweenBuffers() {
+        Utf8CharCounter counter = new Utf8CharCounter();
+        byte[] bytes = "x€x".getBytes(StandardCharsets.UTF_8);
+
+        counter.count(ByteBuffer.wrap(bytes, 0, 2));
+        counter.count(ByteBuffer.wrap(bytes, 2, bytes.length - 2));
+        counter.finish();
+
+        assertEquals(2, counter.histogram().count('x'));
+        assertEquals(1, counter.histogram().count('€'));
+        assertEquals(0, counter.histogram().count('\uFFFD'));
+    }
+
+    @Test
+    void testCountMalformedSequences() {
+        Utf8CharCounter counter = new Utf8CharCounter();
+
+        counter.count(ByteBuffer.wrap(new byte[]{(byte) 0xFF, 'a', (byte) 0xE2, 'b', (byte) 0xC0, (byte) 0x80, (byte) 0xE2}));
+        counter.finish();
+
+        assertEquals(1, counter.histogram().count('a'));
+        assertEquals(1, counter.histogram().count('b'));
+        assertEquals(4, counter.histogram().count('\uFFFD'));
+    }
+
+    @Test
+    void testCountEncodedSurrogateAndOutOfRangeSequencesAsOneReplacementEach() {
+        Utf8CharCounter counter = new Utf8CharCounter();
+
+        counter.count(ByteBuffer.wrap(new byte[]{(byte) 0xED, (byte) 0xA0, (byte) 0x80, (byte) 0xF4, (byte) 0x90,
+                (byte) 0x80, (byte) 0x80, (byte) 0x80}));
+        counter.finish();
+
+        assertEquals(3, counter.histogram().count('\uFFFD'));
+    }
+
+    private static ByteBuffer utf8(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
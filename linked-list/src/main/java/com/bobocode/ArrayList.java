@@ -0,0 +1,436 @@
+package com.bobocode;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * {@link ArrayList} is a list implementation that is based on an array of elements. It provides access to element by
+ * index in a constant time, and adds an element to the end of the list in amortized constant time. When internal array
+ * is full, a new capacity is computed by {@link GrowthPolicy}. Its iterator and spliterator are fail-fast, which means
+ * that they throw {@link ConcurrentModificationException} if the list was structurally modified not by themselves.
+ *
+ * @param <T> generic type parameter
+ */
+public class ArrayList<T> implements List<T> {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final GrowthPolicy DEFAULT_GROWTH_POLICY = GrowthPolicy.multiplyBy(1.5);
+
+    private final GrowthPolicy growthPolicy;
+    private Object[] elements;
+    private int size;
+    private int modCount;
+
+    public ArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ArrayList(int initialCapacity) {
+        this(initialCapacity, DEFAULT_GROWTH_POLICY);
+    }
+
+    public ArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+        this.elements = new Object[initialCapacity];
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> List<T> of(T... elements) {
+        ArrayList<T> list = new ArrayList<>(elements.length);
+        for (T element : elements) {
+            list.elements[list.size++] = element;
+        }
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        ensureCapacity(size + 1);
+        elements[size++] = element;
+        modCount++;
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size);
+        elements[index] = element;
+    }
+
+    /**
+     * Retrieves an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return (T) elements[index];
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     */
+    @Override
+    public void remove(int index) {
+        Objects.checkIndex(index, size);
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        modCount++;
+    }
+
+    /**
+     * Checks if a specific exists in he list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(elements[i], element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Removes all elements between {@code fromIndex}, inclusive, and {@code toIndex}, exclusive, shifting the tail of
+     * the list with a single array copy
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex == toIndex) {
+            return;
+        }
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elements, newSize, size, null);
+        size = newSize;
+        modCount++;
+    }
+
+    /**
+     * Adds all elements of the collection to the end of the list, growing internal array at most once
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        addAll(size, elements);
+    }
+
+    /**
+     * Inserts all elements of the collection starting from the specific position. Existing elements are shifted only
+     * once. In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index    an index of the first new element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, Collection<? extends T> elements) {
+        Objects.checkIndex(index, size + 1);
+        Object[] newElements = elements.toArray();
+        int count = newElements.length;
+        if (count == 0) {
+            return;
+        }
+        ensureCapacity(size + count);
+        System.arraycopy(this.elements, index, this.elements, index + count, size - index);
+        System.arraycopy(newElements, 0, this.elements, index, count);
+        size += count;
+        modCount++;
+    }
+
+    /**
+     * Removes all elements that satisfy the predicate. The predicate is evaluated for all elements first, and then
+     * remaining elements are compacted in one pass, so the list is not changed if the predicate throws an exception
+     *
+     * @param filter a predicate that returns {@code true} for elements to remove
+     * @return {@code true} if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        return removeIf(0, size, filter);
+    }
+
+    /**
+     * Removes all elements of the range that satisfy the predicate. The predicate is evaluated for the whole range
+     * first, and then remaining elements of the range and elements after it are compacted in one pass
+     *
+     * @param fromIndex index of the first element to check
+     * @param toIndex   index after the last element to check
+     * @param filter    a predicate that returns {@code true} for elements to remove
+     * @return {@code true} if any element was removed
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(int fromIndex, int toIndex, Predicate<? super T> filter) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        Objects.requireNonNull(filter);
+        int length = toIndex - fromIndex;
+        BitSet removed = new BitSet(length);
+        int expectedModCount = modCount;
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (filter.test((T) elements[i])) {
+                removed.set(i - fromIndex);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (removed.isEmpty()) {
+            return false;
+        }
+        int newSize = fromIndex + removed.nextSetBit(0);
+        for (int i = removed.nextClearBit(newSize - fromIndex); i < length; i = removed.nextClearBit(i + 1)) {
+            elements[newSize++] = elements[fromIndex + i];
+        }
+        System.arraycopy(elements, toIndex, elements, newSize, size - toIndex);
+        newSize += size - toIndex;
+        Arrays.fill(elements, newSize, size, null);
+        size = newSize;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Returns an array that contains all list elements in proper sequence
+     *
+     * @return new array of list elements
+     */
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns a fail-fast iterator over list elements that supports {@link Iterator#remove()}
+     *
+     * @return new iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayListIterator();
+    }
+
+    /**
+     * Returns a fail-fast {@link Spliterator} that splits the list into halves of an array, so parallel streams are
+     * evenly balanced
+     *
+     * @return new spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArrayListSpliterator(0, -1, 0);
+    }
+
+    private class ArrayListIterator implements Iterator<T> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor++;
+            return (T) elements[lastReturned];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            ArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * A late-binding spliterator, that gets the list size and modification count on first use. A fence {@code -1}
+     * means that the spliterator is not bound yet.
+     */
+    private class ArrayListSpliterator implements Spliterator<T> {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        private ArrayListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int lo = index;
+            int mid = (lo + getFence()) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ArrayListSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            if (index >= hi) {
+                return false;
+            }
+            action.accept((T) elements[index++]);
+            checkForComodification();
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            Object[] array = elements;
+            for (int i = index; i < hi; i++) {
+                action.accept((T) array[i]);
+            }
+            index = hi;
+            checkForComodification();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int newCapacity = Math.max(minCapacity, growthPolicy.grow(elements.length));
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.bobocode;
+
+/**
+ * {@link GrowthPolicy} defines how an array-based list computes a new capacity of its internal array when the array
+ * is full.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * Returns a new capacity of internal array. A returned value must be greater than current capacity.
+     *
+     * @param capacity current capacity
+     * @return new capacity
+     */
+    int grow(int capacity);
+
+    /**
+     * Creates a policy that multiplies current capacity by provided factor. It provides amortized constant time of
+     * appending an element.
+     *
+     * @param factor a multiplier that is greater than 1
+     * @return new growth policy
+     */
+    static GrowthPolicy multiplyBy(double factor) {
+        if (factor <= 1) {
+            throw new IllegalArgumentException("Growth factor must be greater than 1");
+        }
+        return capacity -> Math.max(capacity + 1, (int) Math.min(Integer.MAX_VALUE - 8, (long) (capacity * factor)));
+    }
+
+    /**
+     * Creates a policy that increases current capacity by a fixed number of elements. It saves memory, but appending
+     * an element takes linear time in the worst case.
+     *
+     * @param increment a positive number of elements
+     * @return new growth policy
+     */
+    static GrowthPolicy increaseBy(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Growth increment must be positive");
+        }
+        return capacity -> capacity + increment;
+    }
+}
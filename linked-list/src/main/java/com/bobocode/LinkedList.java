@@ -1,12 +1,39 @@
 package com.bobocode;
 
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
 /**
- * {@link LinkedList} is a list implementation that is based on singly linked generic nodes. A node is implemented as
- * inner static class {@link Node<T>}. In order to keep track on nodes, {@link LinkedList} keeps a reference to a head node.
+ * {@link LinkedList} is a list implementation that is based on doubly linked generic nodes. A node is implemented as
+ * inner static class {@link Node<T>}. In order to keep track on nodes, {@link LinkedList} keeps references to head and
+ * tail nodes, so an element is added to the end of the list in a constant time. An element is found by index walking
+ * from the nearest end of the list. The size is tracked on each change, so {@link LinkedList#size()} and
+ * {@link LinkedList#isEmpty()} are constant time operations. Its iterator is fail-fast, which means that it throws
+ * {@link ConcurrentModificationException} if the list was structurally modified not by the iterator itself. Bulk
+ * operations link or unlink whole chains of nodes at once.
  *
  * @param <T> generic type parameter
  */
 public class LinkedList<T> implements List<T> {
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+    private int modCount;
+
+    private static class Node<T> {
+        private T element;
+        private Node<T> prev;
+        private Node<T> next;
+
+        private Node(T element) {
+            this.element = element;
+        }
+    }
 
     /**
      * This method creates a list of provided elements
@@ -15,8 +42,13 @@ public class LinkedList<T> implements List<T> {
      * @param <T>      generic type
      * @return a new list of elements the were passed as method parameters
      */
+    @SafeVarargs
     public static <T> List<T> of(T... elements) {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        LinkedList<T> list = new LinkedList<>();
+        for (T element : elements) {
+            list.add(element);
+        }
+        return list;
     }
 
     /**
@@ -26,7 +58,7 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void add(T element) {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        linkLast(new Node<>(element));
     }
 
     /**
@@ -38,7 +70,13 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void add(int index, T element) {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        Objects.checkIndex(index, size + 1);
+        Node<T> newNode = new Node<>(element);
+        if (index == size) {
+            linkLast(newNode);
+        } else {
+            linkBefore(newNode, findNode(index));
+        }
     }
 
     /**
@@ -50,7 +88,8 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void set(int index, T element) {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        Objects.checkIndex(index, size);
+        findNode(index).element = element;
     }
 
     /**
@@ -62,7 +101,8 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public T get(int index) {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        Objects.checkIndex(index, size);
+        return findNode(index).element;
     }
 
     /**
@@ -73,7 +113,8 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void remove(int index) {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        Objects.checkIndex(index, size);
+        unlink(findNode(index));
     }
 
 
@@ -84,7 +125,12 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public boolean contains(T element) {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        for (Node<T> current = head; current != null; current = current.next) {
+            if (Objects.equals(current.element, element)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -94,7 +140,7 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public boolean isEmpty() {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        return size == 0;
     }
 
     /**
@@ -104,7 +150,7 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public int size() {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        return size;
     }
 
     /**
@@ -112,6 +158,291 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void clear() {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        head = tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Removes all elements between {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. The whole run of nodes
+     * is unlinked at once.
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex == toIndex) {
+            return;
+        }
+        Node<T> first = findNode(fromIndex);
+        Node<T> last = first;
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            last = last.next;
+        }
+        unlinkRun(first, last, toIndex - fromIndex);
+    }
+
+    /**
+     * Adds all elements of the collection to the end of the list. A chain of new nodes is built first, and then it is
+     * linked to the tail in one step.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        addAll(size, elements);
+    }
+
+    /**
+     * Inserts all elements of the collection starting from the specific position. A chain of new nodes is built first,
+     * and then it is linked into the list in one step. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index    an index of the first new element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, Collection<? extends T> elements) {
+        Objects.checkIndex(index, size + 1);
+        if (elements.isEmpty()) {
+            return;
+        }
+        Node<T> first = null;
+        Node<T> last = null;
+        int count = 0;
+        for (T element : elements) {
+            Node<T> newNode = new Node<>(element);
+            if (first == null) {
+                first = newNode;
+            } else {
+                last.next = newNode;
+                newNode.prev = last;
+            }
+            last = newNode;
+            count++;
+        }
+        Node<T> successor = index == size ? null : findNode(index);
+        Node<T> predecessor = successor == null ? tail : successor.prev;
+        first.prev = predecessor;
+        last.next = successor;
+        if (predecessor == null) {
+            head = first;
+        } else {
+            predecessor.next = first;
+        }
+        if (successor == null) {
+            tail = last;
+        } else {
+            successor.prev = last;
+        }
+        size += count;
+        modCount++;
+    }
+
+    /**
+     * Removes all elements that satisfy the predicate. The predicate is evaluated for all elements first, so the list
+     * is not changed if it throws an exception, and then each run of neighbour elements to remove is unlinked at once.
+     *
+     * @param filter a predicate that returns {@code true} for elements to remove
+     * @return {@code true} if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        return removeIf(0, size, filter);
+    }
+
+    /**
+     * Removes all elements of the range that satisfy the predicate. The predicate is evaluated for the whole range
+     * first, and then each run of neighbour elements to remove is unlinked at once.
+     *
+     * @param fromIndex index of the first element to check
+     * @param toIndex   index after the last element to check
+     * @param filter    a predicate that returns {@code true} for elements to remove
+     * @return {@code true} if any element was removed
+     */
+    @Override
+    public boolean removeIf(int fromIndex, int toIndex, Predicate<? super T> filter) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        Objects.requireNonNull(filter);
+        if (fromIndex == toIndex) {
+            return false;
+        }
+        int length = toIndex - fromIndex;
+        Node<T> first = findNode(fromIndex);
+        BitSet removed = new BitSet(length);
+        int expectedModCount = modCount;
+        Node<T> current = first;
+        for (int index = 0; index < length; index++) {
+            if (filter.test(current.element)) {
+                removed.set(index);
+            }
+            current = current.next;
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (removed.isEmpty()) {
+            return false;
+        }
+        current = first;
+        int i = 0;
+        while (i < length) {
+            if (!removed.get(i)) {
+                current = current.next;
+                i++;
+                continue;
+            }
+            int runEnd = removed.nextClearBit(i);
+            Node<T> runLast = current;
+            for (int j = i + 1; j < runEnd; j++) {
+                runLast = runLast.next;
+            }
+            Node<T> after = runLast.next;
+            unlinkRun(current, runLast, runEnd - i);
+            current = after;
+            i = runEnd;
+        }
+        return true;
+    }
+
+    /**
+     * Returns an array that contains all list elements in proper sequence
+     *
+     * @return new array of list elements
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int i = 0;
+        for (Node<T> current = head; current != null; current = current.next) {
+            array[i++] = current.element;
+        }
+        return array;
+    }
+
+    /**
+     * Returns a fail-fast iterator over list elements that supports {@link Iterator#remove()}
+     *
+     * @return new iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new LinkedListIterator();
+    }
+
+    private class LinkedListIterator implements Iterator<T> {
+        private Node<T> next = head;
+        private Node<T> lastReturned;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = next.next;
+            return lastReturned.element;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private Node<T> findNode(int index) {
+        Node<T> current;
+        if (index < size / 2) {
+            current = head;
+            for (int i = 0; i < index; i++) {
+                current = current.next;
+            }
+        } else {
+            current = tail;
+            for (int i = size - 1; i > index; i--) {
+                current = current.prev;
+            }
+        }
+        return current;
+    }
+
+    private void linkLast(Node<T> newNode) {
+        if (tail == null) {
+            head = newNode;
+        } else {
+            tail.next = newNode;
+            newNode.prev = tail;
+        }
+        tail = newNode;
+        size++;
+        modCount++;
+    }
+
+    private void linkBefore(Node<T> newNode, Node<T> node) {
+        newNode.next = node;
+        newNode.prev = node.prev;
+        if (node.prev == null) {
+            head = newNode;
+        } else {
+            node.prev.next = newNode;
+        }
+        node.prev = newNode;
+        size++;
+        modCount++;
+    }
+
+    private void unlinkRun(Node<T> first, Node<T> last, int count) {
+        Node<T> predecessor = first.prev;
+        Node<T> successor = last.next;
+        if (predecessor == null) {
+            head = successor;
+        } else {
+            predecessor.next = successor;
+        }
+        if (successor == null) {
+            tail = predecessor;
+        } else {
+            successor.prev = predecessor;
+        }
+        first.prev = last.next = null;
+        size -= count;
+        modCount++;
+    }
+
+    private void unlink(Node<T> node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = node.next = null;
+        size--;
+        modCount++;
     }
 }
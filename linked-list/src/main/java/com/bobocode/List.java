@@ -1,7 +1,17 @@
 package com.bobocode;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public interface List<T> {
+public interface List<T> extends Iterable<T> {
     void add(T element);
 
     void add(int index, T element);
@@ -20,4 +30,121 @@ public interface List<T> {
 
     void clear();
 
+    default void addAll(Collection<? extends T> elements) {
+        for (T element : elements) {
+            add(element);
+        }
+    }
+
+    default void addAll(int index, Collection<? extends T> elements) {
+        Objects.checkIndex(index, size() + 1);
+        for (T element : elements) {
+            add(index++, element);
+        }
+    }
+
+    default boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        Iterator<T> iterator = iterator();
+        while (iterator.hasNext()) {
+            if (filter.test(iterator.next())) {
+                iterator.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all elements between {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. In case provided range
+     * is out of the list bounds it throws {@link IndexOutOfBoundsException}. Implementations should remove the whole
+     * range at once instead of removing elements one by one.
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     */
+    default void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        for (int i = fromIndex; i < toIndex; i++) {
+            remove(fromIndex);
+        }
+    }
+
+    /**
+     * Removes all elements between {@code fromIndex}, inclusive, and {@code toIndex}, exclusive, that satisfy the
+     * predicate. The predicate is evaluated for all elements of the range first, so the list is not changed if it
+     * throws an exception. In case provided range is out of the list bounds it throws
+     * {@link IndexOutOfBoundsException}. This default implementation removes the whole range and inserts remaining
+     * elements back, implementations should remove matching elements in place.
+     *
+     * @param fromIndex index of the first element to check
+     * @param toIndex   index after the last element to check
+     * @param filter    a predicate that returns {@code true} for elements to remove
+     * @return {@code true} if any element was removed
+     */
+    @SuppressWarnings("unchecked")
+    default boolean removeIf(int fromIndex, int toIndex, Predicate<? super T> filter) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        Objects.requireNonNull(filter);
+        Object[] elements = new Object[toIndex - fromIndex];
+        Iterator<T> iterator = iterator();
+        for (int i = 0; i < fromIndex; i++) {
+            iterator.next();
+        }
+        BitSet removed = new BitSet(elements.length);
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = iterator.next();
+            if (filter.test((T) elements[i])) {
+                removed.set(i);
+            }
+        }
+        if (removed.isEmpty()) {
+            return false;
+        }
+        int remaining = 0;
+        for (int i = removed.nextClearBit(0); i < elements.length; i = removed.nextClearBit(i + 1)) {
+            elements[remaining++] = elements[i];
+        }
+        removeRange(fromIndex, toIndex);
+        addAll(fromIndex, (java.util.List<T>) Arrays.asList(elements).subList(0, remaining));
+        return true;
+    }
+
+    default Object[] toArray() {
+        Object[] array = new Object[size()];
+        int i = 0;
+        for (T element : this) {
+            array[i++] = element;
+        }
+        return array;
+    }
+
+    /**
+     * Returns a view of the portion of this list between {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+     * Changes of the view are written through to this list. If this list is structurally modified not through
+     * the view, the view behaviour is undefined.
+     *
+     * @param fromIndex low endpoint of the view
+     * @param toIndex   high endpoint of the view
+     * @return a view of the specified range
+     */
+    default List<T> subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        return new SubList<>(this, fromIndex, toIndex);
+    }
+
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
 }
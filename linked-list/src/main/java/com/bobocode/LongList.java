@@ -0,0 +1,386 @@
+package com.bobocode;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * {@link LongList} is a list of primitive {@code long} values. Values are stored in packed {@code long[]} chunks of a fixed
+ * size, so methods {@link LongList#addLong(long)}, {@link LongList#getLong(int)} and {@link LongList#setLong(int, long)} never
+ * box values, and a growing list never copies already added values. Only a small array of chunk references is copied.
+ * <p>
+ * Methods inherited from {@link List} box and unbox values, so they exist for compatibility only. {@code null} elements
+ * are not supported and cause {@link NullPointerException}.
+ */
+public class LongList implements List<Long> {
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_NUMBER_OF_CHUNKS = 4;
+
+    private long[][] chunks = new long[INITIAL_NUMBER_OF_CHUNKS][];
+    private int size;
+    private int modCount;
+
+    /**
+     * This method creates a list of provided values
+     *
+     * @param values values to add
+     * @return a new list of values the were passed as method parameters
+     */
+    public static LongList of(long... values) {
+        LongList list = new LongList();
+        for (long value : values) {
+            list.addLong(value);
+        }
+        return list;
+    }
+
+    /**
+     * Adds a value to the end of the list
+     *
+     * @param value value to add
+     */
+    public void addLong(long value) {
+        ensureCapacity(size + 1);
+        chunks[size >>> CHUNK_SHIFT][size & CHUNK_MASK] = value;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds a new value to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index an index of new value
+     * @param value value to add
+     */
+    public void addLong(int index, long value) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        shiftRight(index);
+        chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK] = value;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Changes a value at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index an position of value to change
+     * @param value a new value
+     */
+    public void setLong(int index, long value) {
+        Objects.checkIndex(index, size);
+        chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK] = value;
+    }
+
+    /**
+     * Retrieves a value by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index value index
+     * @return a value
+     */
+    public long getLong(int index) {
+        Objects.checkIndex(index, size);
+        return chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    /**
+     * Checks if a specific value exists in the list
+     *
+     * @param value a value to find
+     * @return {@code true} if value exist, {@code false} otherwise
+     */
+    public boolean containsLong(long value) {
+        for (int i = 0; i < size; i++) {
+            if (chunks[i >>> CHUNK_SHIFT][i & CHUNK_MASK] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes all values that satisfy the predicate. The predicate is evaluated for all values first, and then
+     * remaining values are compacted in one pass, so the list is not changed if the predicate throws an exception
+     *
+     * @param filter a predicate that returns {@code true} for values to remove
+     * @return {@code true} if any value was removed
+     */
+    public boolean removeLongIf(LongPredicate filter) {
+        return removeLongIf(0, size, filter);
+    }
+
+    /**
+     * Removes all values of the range that satisfy the predicate. The predicate is evaluated for the whole range
+     * first, and then remaining values of the range and values after it are compacted in one pass. Chunks that are
+     * not used anymore are released. In case provided range is out of the list bounds it throws
+     * {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex index of the first value to check
+     * @param toIndex   index after the last value to check
+     * @param filter    a predicate that returns {@code true} for values to remove
+     * @return {@code true} if any value was removed
+     */
+    public boolean removeLongIf(int fromIndex, int toIndex, LongPredicate filter) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        Objects.requireNonNull(filter);
+        BitSet removed = new BitSet(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (filter.test(chunks[i >>> CHUNK_SHIFT][i & CHUNK_MASK])) {
+                removed.set(i - fromIndex);
+            }
+        }
+        if (removed.isEmpty()) {
+            return false;
+        }
+        int newSize = fromIndex + removed.nextSetBit(0);
+        for (int i = newSize + 1; i < size; i++) {
+            if (i >= toIndex || !removed.get(i - fromIndex)) {
+                chunks[newSize >>> CHUNK_SHIFT][newSize & CHUNK_MASK] = chunks[i >>> CHUNK_SHIFT][i & CHUNK_MASK];
+                newSize++;
+            }
+        }
+        releaseChunksAfter(newSize);
+        size = newSize;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Returns an array that contains all list values in proper sequence
+     *
+     * @return new array of list values
+     */
+    public long[] toLongArray() {
+        long[] array = new long[size];
+        for (int c = 0, copied = 0; copied < size; c++) {
+            int length = Math.min(CHUNK_SIZE, size - copied);
+            System.arraycopy(chunks[c], 0, array, copied, length);
+            copied += length;
+        }
+        return array;
+    }
+
+    /**
+     * Returns a sequential stream of list values, that does not box them
+     *
+     * @return new stream of primitive values
+     */
+    public LongStream longStream() {
+        return IntStream.range(0, size)
+                .mapToLong(this::getLong);
+    }
+
+    @Override
+    public void add(Long element) {
+        addLong(element);
+    }
+
+    @Override
+    public void add(int index, Long element) {
+        addLong(index, element);
+    }
+
+    @Override
+    public void set(int index, Long element) {
+        setLong(index, element);
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    /**
+     * Removes a value by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index value index
+     */
+    @Override
+    public void remove(int index) {
+        Objects.checkIndex(index, size);
+        shiftLeft(index);
+        size--;
+        modCount++;
+    }
+
+    @Override
+    public boolean contains(Long element) {
+        return element != null && containsLong(element);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Long> filter) {
+        return removeLongIf(filter::test);
+    }
+
+    @Override
+    public boolean removeIf(int fromIndex, int toIndex, Predicate<? super Long> filter) {
+        return removeLongIf(fromIndex, toIndex, filter::test);
+    }
+
+    /**
+     * Removes all values between {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. Values after the range
+     * are moved left chunk by chunk, and chunks that are not used anymore are released.
+     *
+     * @param fromIndex index of the first value to remove
+     * @param toIndex   index after the last value to remove
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex == toIndex) {
+            return;
+        }
+        int source = toIndex;
+        int target = fromIndex;
+        while (source < size) {
+            int length = Math.min(size - source,
+                    Math.min(CHUNK_SIZE - (source & CHUNK_MASK), CHUNK_SIZE - (target & CHUNK_MASK)));
+            System.arraycopy(chunks[source >>> CHUNK_SHIFT], source & CHUNK_MASK,
+                    chunks[target >>> CHUNK_SHIFT], target & CHUNK_MASK, length);
+            source += length;
+            target += length;
+        }
+        releaseChunksAfter(target);
+        size = target;
+        modCount++;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list values and releases memory of all chunks
+     */
+    @Override
+    public void clear() {
+        chunks = new long[INITIAL_NUMBER_OF_CHUNKS][];
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over list values that supports {@link PrimitiveIterator.OfLong#nextLong()}
+     * and {@link PrimitiveIterator.OfLong#remove()}
+     *
+     * @return new iterator
+     */
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongListIterator();
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        int requiredChunks = (minCapacity + CHUNK_MASK) >>> CHUNK_SHIFT;
+        if (requiredChunks > chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(requiredChunks, chunks.length * 2));
+        }
+        int lastChunk = requiredChunks - 1;
+        if (chunks[lastChunk] == null) {
+            chunks[lastChunk] = new long[CHUNK_SIZE];
+        }
+    }
+
+    /**
+     * Releases chunks after the one that holds the last of {@code newSize} values. A growing list allocates them again
+     * one by one.
+     */
+    private void releaseChunksAfter(int newSize) {
+        int usedChunks = (newSize + CHUNK_MASK) >>> CHUNK_SHIFT;
+        Arrays.fill(chunks, Math.max(usedChunks, 1), chunks.length, null);
+    }
+
+    /**
+     * Moves values from range {@code [from, size)} one position right, chunk by chunk starting from the last one.
+     */
+    private void shiftRight(int from) {
+        int firstChunk = from >>> CHUNK_SHIFT;
+        int lastChunk = size >>> CHUNK_SHIFT;
+        for (int c = lastChunk; c > firstChunk; c--) {
+            long[] chunk = chunks[c];
+            int length = c == lastChunk ? size & CHUNK_MASK : CHUNK_SIZE - 1;
+            System.arraycopy(chunk, 0, chunk, 1, length);
+            chunk[0] = chunks[c - 1][CHUNK_MASK];
+        }
+        int offset = from & CHUNK_MASK;
+        int length = (firstChunk == lastChunk ? size & CHUNK_MASK : CHUNK_SIZE - 1) - offset;
+        System.arraycopy(chunks[firstChunk], offset, chunks[firstChunk], offset + 1, length);
+    }
+
+    /**
+     * Moves values from range {@code [from + 1, size)} one position left, chunk by chunk starting from the first one.
+     */
+    private void shiftLeft(int from) {
+        int last = size - 1;
+        int firstChunk = from >>> CHUNK_SHIFT;
+        int lastChunk = last >>> CHUNK_SHIFT;
+        for (int c = firstChunk; c <= lastChunk; c++) {
+            long[] chunk = chunks[c];
+            int offset = c == firstChunk ? from & CHUNK_MASK : 0;
+            int end = c == lastChunk ? last & CHUNK_MASK : CHUNK_MASK;
+            System.arraycopy(chunk, offset + 1, chunk, offset, end - offset);
+            if (c < lastChunk) {
+                chunk[CHUNK_MASK] = chunks[c + 1][0];
+            }
+        }
+    }
+
+    private class LongListIterator implements PrimitiveIterator.OfLong {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public long nextLong() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor++;
+            return chunks[lastReturned >>> CHUNK_SHIFT][lastReturned & CHUNK_MASK];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            LongList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.bobocode;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * {@link SubList} is a view of a range of a parent {@link List}. Indexed operations are delegated to the parent list
+ * with an offset. Its iterator is based on parent iterator, so scanning the view takes one linear pass over the parent
+ * list whatever list implementation it is. Clearing the view and removing elements by a predicate are delegated to
+ * {@link List#removeRange(int, int)} and {@link List#removeIf(int, int, Predicate)} of the parent list.
+ *
+ * @param <T> generic type parameter
+ */
+class SubList<T> implements List<T> {
+    private final List<T> parent;
+    private final int offset;
+    private int size;
+
+    SubList(List<T> parent, int fromIndex, int toIndex) {
+        this.parent = parent;
+        this.offset = fromIndex;
+        this.size = toIndex - fromIndex;
+    }
+
+    @Override
+    public void add(T element) {
+        parent.add(offset + size, element);
+        size++;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        parent.add(offset + index, element);
+        size++;
+    }
+
+    @Override
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size);
+        parent.set(offset + index, element);
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return parent.get(offset + index);
+    }
+
+    @Override
+    public void remove(int index) {
+        Objects.checkIndex(index, size);
+        parent.remove(offset + index);
+        size--;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (T e : this) {
+            if (Objects.equals(e, element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size);
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        parent.removeRange(offset + fromIndex, offset + toIndex);
+        size -= toIndex - fromIndex;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        return removeIf(0, size, filter);
+    }
+
+    @Override
+    public boolean removeIf(int fromIndex, int toIndex, Predicate<? super T> filter) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        int parentSizeBefore = parent.size();
+        boolean removed = parent.removeIf(offset + fromIndex, offset + toIndex, filter);
+        size -= parentSizeBefore - parent.size();
+        return removed;
+    }
+
+    @Override
+    public void addAll(int index, Collection<? extends T> elements) {
+        Objects.checkIndex(index, size + 1);
+        int sizeBefore = parent.size();
+        parent.addAll(offset + index, elements);
+        size += parent.size() - sizeBefore;
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        addAll(size, elements);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<T> parentIterator = parent.iterator();
+        for (int i = 0; i < offset; i++) {
+            parentIterator.next();
+        }
+        return new Iterator<>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public T next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                cursor++;
+                return parentIterator.next();
+            }
+
+            @Override
+            public void remove() {
+                parentIterator.remove();
+                cursor--;
+                size--;
+            }
+        };
+    }
+}
@@ -0,0 +1,544 @@
+package com.bobocode;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * {@link UnrolledLinkedList} is a list implementation that is based on doubly linked nodes, where each node stores up to
+ * a fixed number of elements in a small array. Compared to {@link LinkedList}, it needs much less memory per element,
+ * and neighbour elements are placed next to each other in memory, so scanning the list is close to scanning an array.
+ * <p>
+ * An element is inserted or removed by shifting elements of a single node. A {@link Cursor} returned by
+ * {@link UnrolledLinkedList#iterator()} keeps its node, so {@link Cursor#add(Object)} and {@link Cursor#remove()} take
+ * constant time, while inserting or removing by index first walks nodes from the nearest end of the list to find the
+ * node. A full node is split into two halves, and a node that became less than half full is merged with the next node
+ * if they fit into one.
+ *
+ * @param <T> generic type parameter
+ */
+public class UnrolledLinkedList<T> implements List<T> {
+    private static final int DEFAULT_NODE_CAPACITY = 32;
+
+    private final int nodeCapacity;
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+    private int modCount;
+
+    private static class Node<T> {
+        private final Object[] elements;
+        private int count;
+        private Node<T> prev;
+        private Node<T> next;
+
+        private Node(int capacity) {
+            this.elements = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        private T get(int offset) {
+            return (T) elements[offset];
+        }
+    }
+
+    private static class Position<T> {
+        private final Node<T> node;
+        private final int offset;
+
+        private Position(Node<T> node, int offset) {
+            this.node = node;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * {@link Cursor} is a fail-fast iterator, that can also insert elements at its position.
+     *
+     * @param <T> generic type parameter
+     */
+    public interface Cursor<T> extends Iterator<T> {
+        /**
+         * Inserts an element right before the element that would be returned by {@link Cursor#next()}, or at the end
+         * if there is no next element. The following call of {@link Cursor#next()} is not affected, and
+         * {@link Cursor#remove()} cannot be called until {@link Cursor#next()} is called again.
+         *
+         * @param element element to add
+         */
+        void add(T element);
+    }
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list, whose nodes hold up to provided number of elements
+     *
+     * @param nodeCapacity max number of elements in one node, it must be at least 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Node capacity must be at least 2");
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> List<T> of(T... elements) {
+        UnrolledLinkedList<T> list = new UnrolledLinkedList<>();
+        for (T element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        if (tail == null || tail.count == nodeCapacity) {
+            linkAfter(new Node<>(nodeCapacity), tail);
+        }
+        tail.elements[tail.count++] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            add(element);
+            return;
+        }
+        Position<T> position = findPosition(index);
+        insertAt(position.node, position.offset, element);
+    }
+
+    /**
+     * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size);
+        Position<T> position = findPosition(index);
+        position.node.elements[position.offset] = element;
+    }
+
+    /**
+     * Retrieves an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        Position<T> position = findPosition(index);
+        return position.node.get(position.offset);
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     */
+    @Override
+    public void remove(int index) {
+        Objects.checkIndex(index, size);
+        Position<T> position = findPosition(index);
+        removeAt(position.node, position.offset);
+    }
+
+    /**
+     * Checks if a specific exists in he list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (Node<T> node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (Objects.equals(node.elements[i], element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        head = tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Removes all elements between {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. Nodes that are covered
+     * by the range are unlinked whole, and only the nodes at its ends are shifted.
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex != toIndex) {
+            removeFromNodes(findPosition(fromIndex), toIndex - fromIndex, null);
+        }
+    }
+
+    /**
+     * Removes all elements that satisfy the predicate. The predicate is evaluated for all elements first, so the list
+     * is not changed if it throws an exception, and then each node is compacted in place.
+     *
+     * @param filter a predicate that returns {@code true} for elements to remove
+     * @return {@code true} if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        return removeIf(0, size, filter);
+    }
+
+    /**
+     * Removes all elements of the range that satisfy the predicate. The predicate is evaluated for the whole range
+     * first, and then each node of the range is compacted in place.
+     *
+     * @param fromIndex index of the first element to check
+     * @param toIndex   index after the last element to check
+     * @param filter    a predicate that returns {@code true} for elements to remove
+     * @return {@code true} if any element was removed
+     */
+    @Override
+    public boolean removeIf(int fromIndex, int toIndex, Predicate<? super T> filter) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        Objects.requireNonNull(filter);
+        if (fromIndex == toIndex) {
+            return false;
+        }
+        Position<T> start = findPosition(fromIndex);
+        int length = toIndex - fromIndex;
+        BitSet removed = new BitSet(length);
+        int expectedModCount = modCount;
+        Node<T> node = start.node;
+        int offset = start.offset;
+        for (int i = 0; i < length; i++) {
+            if (offset == node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            if (filter.test(node.get(offset++))) {
+                removed.set(i);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (removed.isEmpty()) {
+            return false;
+        }
+        removeFromNodes(start, length, removed);
+        return true;
+    }
+
+    /**
+     * Returns a fail-fast iterator over list elements that supports {@link Iterator#remove()} and inserts elements at
+     * its position with {@link Cursor#add(Object)}
+     *
+     * @return new cursor
+     */
+    @Override
+    public Cursor<T> iterator() {
+        return new UnrolledLinkedListIterator();
+    }
+
+    private class UnrolledLinkedListIterator implements Cursor<T> {
+        private Node<T> nextNode = head;
+        private int nextOffset;
+        private Node<T> lastReturnedNode;
+        private int lastReturnedOffset;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            skipExhaustedNode();
+            return nextNode != null;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            skipExhaustedNode();
+            if (nextNode == null) {
+                throw new NoSuchElementException();
+            }
+            lastReturnedNode = nextNode;
+            lastReturnedOffset = nextOffset++;
+            return lastReturnedNode.get(lastReturnedOffset);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturnedNode == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            Node<T> following = lastReturnedNode.next;
+            removeAt(lastReturnedNode, lastReturnedOffset);
+            if (lastReturnedNode.count == 0) {
+                nextNode = following;
+                nextOffset = 0;
+            } else {
+                nextNode = lastReturnedNode;
+                nextOffset = lastReturnedOffset;
+            }
+            lastReturnedNode = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void add(T element) {
+            checkForComodification();
+            skipExhaustedNode();
+            if (nextNode == null) {
+                UnrolledLinkedList.this.add(element);
+            } else {
+                Position<T> position = insertAt(nextNode, nextOffset, element);
+                nextNode = position.node;
+                nextOffset = position.offset + 1;
+            }
+            lastReturnedNode = null;
+            expectedModCount = modCount;
+        }
+
+        private void skipExhaustedNode() {
+            while (nextNode != null && nextOffset >= nextNode.count) {
+                nextNode = nextNode.next;
+                nextOffset = 0;
+            }
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private Position<T> findPosition(int index) {
+        if (index < size / 2) {
+            Node<T> node = head;
+            int offset = index;
+            while (offset >= node.count) {
+                offset -= node.count;
+                node = node.next;
+            }
+            return new Position<>(node, offset);
+        } else {
+            Node<T> node = tail;
+            int nodeStart = size - node.count;
+            while (index < nodeStart) {
+                node = node.prev;
+                nodeStart -= node.count;
+            }
+            return new Position<>(node, index - nodeStart);
+        }
+    }
+
+    /**
+     * Inserts an element into the node at the offset, splitting the node first if it is full.
+     *
+     * @return the node and offset where the element was placed
+     */
+    private Position<T> insertAt(Node<T> node, int offset, T element) {
+        if (node.count == nodeCapacity) {
+            Node<T> upperHalf = split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = upperHalf;
+            }
+        }
+        System.arraycopy(node.elements, offset, node.elements, offset + 1, node.count - offset);
+        node.elements[offset] = element;
+        node.count++;
+        size++;
+        modCount++;
+        return new Position<>(node, offset);
+    }
+
+    private void removeAt(Node<T> node, int offset) {
+        System.arraycopy(node.elements, offset + 1, node.elements, offset, node.count - offset - 1);
+        node.elements[--node.count] = null;
+        if (node.count == 0) {
+            unlink(node);
+        } else if (node.count < nodeCapacity / 2 && node.next != null && node.count + node.next.count <= nodeCapacity) {
+            mergeNext(node);
+        }
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Removes elements of the range of {@code length} elements that starts at the position. Only elements whose bits
+     * are set are removed, or all of them if {@code removed} is {@code null}. Each node is compacted in place, a node
+     * that became empty is unlinked, and then nodes around the range are merged if they fit into one.
+     */
+    private void removeFromNodes(Position<T> start, int length, BitSet removed) {
+        Node<T> before = start.node.prev;
+        Node<T> node = start.node;
+        int offset = start.offset;
+        int removedCount = 0;
+        int i = 0;
+        while (i < length) {
+            int inNode = Math.min(length - i, node.count - offset);
+            int write = offset;
+            if (removed != null) {
+                for (int j = 0; j < inNode; j++) {
+                    if (!removed.get(i + j)) {
+                        node.elements[write++] = node.elements[offset + j];
+                    }
+                }
+            }
+            int after = node.count - offset - inNode;
+            Node<T> next = node.next;
+            if (write == 0 && after == 0) {
+                removedCount += node.count;
+                unlink(node);
+            } else {
+                System.arraycopy(node.elements, offset + inNode, node.elements, write, after);
+                int newCount = write + after;
+                Arrays.fill(node.elements, newCount, node.count, null);
+                removedCount += node.count - newCount;
+                node.count = newCount;
+            }
+            i += inNode;
+            node = next;
+            offset = 0;
+        }
+        size -= removedCount;
+        modCount++;
+        mergeUnderfullNodes(before == null ? head : before, node);
+    }
+
+    /**
+     * Merges each node from {@code first} up to {@code last} with the next one, while it is less than half full and
+     * they fit into one node.
+     */
+    private void mergeUnderfullNodes(Node<T> first, Node<T> last) {
+        Node<T> node = first;
+        while (node != null && node != last) {
+            Node<T> next = node.next;
+            if (node.count < nodeCapacity / 2 && next != null && node.count + next.count <= nodeCapacity) {
+                mergeNext(node);
+                if (next == last) {
+                    return;
+                }
+            } else {
+                node = next;
+            }
+        }
+    }
+
+    /**
+     * Moves the upper half of elements of a full node into a new node, that is linked right after it.
+     */
+    private Node<T> split(Node<T> node) {
+        Node<T> upperHalf = new Node<>(nodeCapacity);
+        int lowerCount = node.count / 2;
+        int upperCount = node.count - lowerCount;
+        System.arraycopy(node.elements, lowerCount, upperHalf.elements, 0, upperCount);
+        Arrays.fill(node.elements, lowerCount, node.count, null);
+        upperHalf.count = upperCount;
+        node.count = lowerCount;
+        linkAfter(upperHalf, node);
+        return upperHalf;
+    }
+
+    private void mergeNext(Node<T> node) {
+        Node<T> next = node.next;
+        System.arraycopy(next.elements, 0, node.elements, node.count, next.count);
+        node.count += next.count;
+        unlink(next);
+    }
+
+    private void linkAfter(Node<T> newNode, Node<T> node) {
+        if (node == null) {
+            head = tail = newNode;
+            return;
+        }
+        newNode.prev = node;
+        newNode.next = node.next;
+        if (node.next == null) {
+            tail = newNode;
+        } else {
+            node.next.prev = newNode;
+        }
+        node.next = newNode;
+    }
+
+    private void unlink(Node<T> node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = node.next = null;
+    }
+}
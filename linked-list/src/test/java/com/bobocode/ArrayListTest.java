@@ -0,0 +1,53 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ArrayListTest extends ListTest {
+
+    @Override
+    protected List<Integer> listOf(Integer... elements) {
+        return ArrayList.of(elements);
+    }
+
+    @Test
+    void testAddElementsBeyondInitialCapacity() {
+        List<Integer> list = new ArrayList<>(0, GrowthPolicy.increaseBy(2));
+
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        assertEquals(100, list.size());
+        assertEquals(0, list.get(0).intValue());
+        assertEquals(99, list.get(99).intValue());
+    }
+
+    @Test
+    void testCreateListWithNegativeCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new ArrayList<>(-1));
+    }
+
+    @Test
+    void testCreateGrowthPolicyWithInvalidFactor() {
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.multiplyBy(1));
+    }
+
+    @Test
+    void testRemoveIfWithThrowingPredicateLeavesListUnchanged() {
+        List<Integer> list = listOf(1, 2, 3, 4, 5);
+
+        assertThrows(IllegalStateException.class, () -> list.removeIf(element -> {
+            if (element == 4) {
+                throw new IllegalStateException();
+            }
+            return element % 2 == 1;
+        }));
+
+        assertEquals(5, list.size());
+        assertArrayEquals(new Object[]{1, 2, 3, 4, 5}, list.toArray());
+    }
+}
@@ -0,0 +1,130 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntListTest extends ListTest {
+
+    @Override
+    protected List<Integer> listOf(Integer... elements) {
+        IntList list = new IntList();
+        for (Integer element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Test
+    void testAddAndGetPrimitiveValues() {
+        IntList list = IntList.of(3, 7, 11);
+
+        list.addInt(13);
+        list.setInt(0, 2);
+
+        assertEquals(4, list.size());
+        assertEquals(2, list.getInt(0));
+        assertEquals(13, list.getInt(3));
+        assertTrue(list.containsInt(11));
+        assertFalse(list.containsInt(3));
+    }
+
+    @Test
+    void testAddAndRemoveAcrossChunks() {
+        IntList list = new IntList();
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 5000; i++) {
+            int value = random.nextInt();
+            if (!expected.isEmpty() && random.nextInt(4) == 0) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list.remove(index);
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, value);
+                list.addInt(index, value);
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).intValue(), list.getInt(i));
+        }
+    }
+
+    @Test
+    void testIntStream() {
+        IntList list = IntList.of(1, 2, 3, 4);
+
+        assertEquals(10, list.intStream().sum());
+    }
+
+    @Test
+    void testPrimitiveIterator() {
+        IntList list = IntList.of(5, 6);
+
+        PrimitiveIterator.OfInt iterator = list.iterator();
+
+        assertEquals(5, iterator.nextInt());
+        assertEquals(6, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void testAddNullElement() {
+        assertThrows(NullPointerException.class, () -> new IntList().add(null));
+    }
+
+    @Test
+    void testContainsNullElement() {
+        assertFalse(IntList.of(1).contains(null));
+    }
+
+    @Test
+    void testRemoveIfWithThrowingPredicateLeavesListUnchanged() {
+        List<Integer> list = listOf(1, 2, 3, 4, 5);
+
+        assertThrows(IllegalStateException.class, () -> list.removeIf(element -> {
+            if (element == 4) {
+                throw new IllegalStateException();
+            }
+            return element % 2 == 1;
+        }));
+
+        assertEquals(5, list.size());
+        assertArrayEquals(new Object[]{1, 2, 3, 4, 5}, list.toArray());
+    }
+
+    @Test
+    void testRemoveRangeAndRemoveIntIfAcrossChunks() {
+        IntList list = new IntList();
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            list.addInt(i);
+            expected.add(i);
+        }
+
+        list.removeRange(1000, 3100);
+        expected.subList(1000, 3100).clear();
+        list.removeIntIf(500, 2000, value -> value % 2 == 0);
+        expected.subList(500, 2000).removeIf(value -> value % 2 == 0);
+        for (int i = 0; i < 2000; i++) {
+            list.addInt(-i);
+            expected.add(-i);
+        }
+
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).intValue(), list.getInt(i));
+        }
+    }
+}
@@ -0,0 +1,667 @@
+package com.bobocode;
+
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ListTest} is a contract test of {@link List}. Each list implementation has its own subclass that provides
+ * a way to create a list.
+ */
+@TestMethodOrder( MethodOrderer.OrderAnnotation.class)
+public abstract class ListTest {
+
+    private List<Integer> intList = listOf();
+
+    protected abstract List<Integer> listOf(Integer... elements);
+
+    @Test
+    @Order(1)
+    void testAddIntoEmptyList() {
+        intList.add(41);
+
+        assertEquals(1, intList.size());
+        assertEquals(41, intList.get(0).intValue());
+    }
+
+    @Test
+    @Order(2)
+    void testGetFirstElementFromSingleElementList() {
+        intList.add(25);
+
+        int element = intList.get(0);
+
+        assertEquals(25, element);
+    }
+
+    @Test
+    @Order(4)
+    void testAddElements() {
+        intList = listOf(43, 233, 54);
+
+        assertEquals(3, intList.size());
+        assertEquals(43, intList.get(0).intValue());
+        assertEquals(233, intList.get(1).intValue());
+        assertEquals(54, intList.get(2).intValue());
+    }
+
+
+    @Test
+    @Order(5)
+    void testGetElements() {
+        intList = listOf(25, 87, 45);
+
+        int firstElement = intList.get(0);
+        int secondElement = intList.get(1);
+        int thirdElement = intList.get(2);
+
+        assertEquals(25, firstElement);
+        assertEquals(87, secondElement);
+        assertEquals(45, thirdElement);
+    }
+
+    @Test
+    @Order(16)
+    void testGetFirstElementFromEmptyList() {
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.get(0));
+    }
+
+    @Test
+    @Order(17)
+    void testGetElementByNegativeIndex() {
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.get(-1));
+    }
+
+    @Test
+    @Order(18)
+    void testGetElementByIndexEqualsToListSize() {
+        intList = listOf(33, 46, 25, 87, 45);
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.get(5));
+    }
+
+    @Test
+    @Order(6)
+    void testAddElementByZeroIndexIntoEmptyList() {
+        intList.add(0, 45);
+
+        assertEquals(1, intList.size());
+        assertEquals(45, intList.get(0).intValue());
+    }
+
+    @Test
+    @Order(7)
+    void testAddElementByIndexToTheEndOfList() {
+        intList = listOf(98, 64, 23, 1, 3, 4);
+
+        int newElementIndex = intList.size();
+        intList.add(newElementIndex, 44);
+
+        assertEquals(44, intList.get(newElementIndex).intValue());
+        assertEquals(7, intList.size());
+    }
+
+    @Test
+    @Order(8)
+    void testAddElementToTheHeadOfNonEmptyList() {
+        intList = listOf(4, 6, 8, 9, 0, 2);
+
+        intList.add(0, 53);
+
+        assertEquals(53, intList.get(0).intValue());
+        assertEquals(4, intList.get(1).intValue());
+        assertEquals(7, intList.size());
+    }
+
+    @Test
+    @Order(9)
+    void testAddElementByIndex() {
+        intList = listOf(43, 5, 6, 8);
+
+        int newElementIdx = 2;
+        intList.add(newElementIdx, 66);
+
+        assertEquals(66, intList.get(newElementIdx).intValue());
+        assertEquals(43, intList.get(0).intValue());
+        assertEquals(5, intList.get(1).intValue());
+        assertEquals(6, intList.get(3).intValue());
+        assertEquals(8, intList.get(4).intValue());
+        assertEquals(5, intList.size());
+    }
+
+    @Test
+    @Order(10)
+    void testAddElementByNegativeIndex() {
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.add(-1, 66));
+
+    }
+
+    @Test
+    @Order(11)
+    void testAddElementByIndexLargerThanListSize() {
+        intList = listOf(4, 6, 11, 9);
+
+        int newElementIdx = 5;
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.add(newElementIdx, 88));
+    }
+
+    @Test
+    @Order(12)
+    void testAddElementByIndexEqualToSize() {
+        intList = listOf(1, 2, 3, 4, 5); // size = 5
+
+        intList.add(5, 111);
+
+        assertEquals(6, intList.size());
+        assertEquals(111, intList.get(5).intValue());
+    }
+
+    @Test
+    @Order(13)
+    void testSetFirstElementOnEmptyTree() {
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.set(0, 34));
+    }
+
+    @Test
+    @Order(14)
+    void testSetElementByIndexEqualToSize() {
+        intList = listOf(2, 3, 4); // size = 3
+
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.set(3, 222));
+    }
+
+    @Test
+    @Order(15)
+    void testSetElementByIndex() {
+        intList = listOf(34, 78, 9, 8);
+
+        int index = 2; //element = 78
+        intList.set(index, 99);
+
+        assertEquals(99, intList.get(index).intValue());
+        assertEquals(34, intList.get(0).intValue());
+        assertEquals(78, intList.get(1).intValue());
+        assertEquals(8, intList.get(3).intValue());
+        assertEquals(4, intList.size());
+
+    }
+
+    @Test
+    @Order(19)
+    void testRemoveElementFromEmptyList() {
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.remove(234));
+    }
+
+    @Test
+    @Order(20)
+    void testRemoveFirstElement() {
+        intList = listOf(4, 6, 8, 9);
+
+        intList.remove(0);
+
+        assertEquals(6, intList.get(0).intValue());
+        assertEquals(3, intList.size());
+    }
+
+    @Test
+    @Order(21)
+    void testRemoveLastElement() {
+        intList = listOf(4, 6, 8, 9);
+
+        intList.remove(intList.size() - 1);
+
+        assertEquals(8, intList.get(intList.size() - 1).intValue());
+        assertEquals(3, intList.size());
+    }
+
+    @Test
+    @Order(22)
+    void testRemoveElement() {
+        intList = listOf(1, 2, 3, 4, 5);
+
+        int elementIndex = 2;
+        intList.remove(elementIndex); // element = 3
+
+        assertEquals(4, intList.get(elementIndex).intValue());
+        assertEquals(4, intList.size());
+    }
+
+    @Test
+    @Order(23)
+    void testContainsOnEmptyList() {
+        boolean contains = intList.contains(34);
+
+        assertFalse(contains);
+    }
+
+    @Test
+    @Order(24)
+    void testContains() {
+        intList = listOf(45, 6, 3, 6);
+
+        boolean containsExistingElement = intList.contains(3);
+        boolean containsNotExistingElement = intList.contains(54);
+
+        assertTrue(containsExistingElement);
+        assertFalse(containsNotExistingElement);
+    }
+
+    @Test
+    @Order(25)
+    void testIsEmptyOnEmptyList() {
+        boolean empty = intList.isEmpty();
+
+        assertTrue(empty);
+    }
+
+    @Test
+    @Order(26)
+    void testIsEmpty() {
+        intList = listOf(34, 5, 6);
+
+        boolean empty = intList.isEmpty();
+
+        assertFalse(empty);
+    }
+
+    @Test
+    @Order(27)
+    void testSizeOnEmptyList() {
+        int size = intList.size();
+
+        assertEquals(0, size);
+    }
+
+    @Test
+    @Order(3)
+    void testSize() {
+        intList = listOf(4, 7, 9, 0, 7);
+
+        int size = intList.size();
+
+        assertEquals(5, size);
+    }
+
+    @Test
+    @Order(28)
+    void testClearOnEmptyList() {
+        intList.clear();
+
+        assertEquals(0, intList.size());
+    }
+
+    @Test
+    @Order(29)
+    void testClearChangesTheSize() {
+        intList = listOf(4, 5, 6);
+
+        intList.clear();
+
+        assertEquals(0, intList.size());
+    }
+
+    @Test
+    @Order(30)
+    void testClearRemovesElements() {
+        intList = listOf(4, 5, 6);
+
+        intList.clear();
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.get(0));
+    }
+
+    @Test
+    @Order(31)
+    void testIterateOverElements() {
+        intList = listOf(3, 5, 7);
+
+        StringBuilder elements = new StringBuilder();
+        for (Integer element : intList) {
+            elements.append(element);
+        }
+
+        assertEquals("357", elements.toString());
+    }
+
+    @Test
+    @Order(32)
+    void testIteratorNextOnEmptyList() {
+        Iterator<Integer> iterator = intList.iterator();
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @Order(33)
+    void testIteratorRemove() {
+        intList = listOf(1, 2, 3, 4, 5);
+
+        Iterator<Integer> iterator = intList.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 1) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(2, intList.size());
+        assertEquals(2, intList.get(0).intValue());
+        assertEquals(4, intList.get(1).intValue());
+    }
+
+    @Test
+    @Order(34)
+    void testIteratorRemoveWithoutNext() {
+        intList = listOf(1, 2);
+
+        assertThrows(IllegalStateException.class, () -> intList.iterator().remove());
+    }
+
+    @Test
+    @Order(35)
+    void testIteratorIsFailFast() {
+        intList = listOf(1, 2, 3);
+
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+        intList.add(4);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    @Order(36)
+    void testSpliteratorCharacteristics() {
+        intList = listOf(1, 2, 3);
+
+        Spliterator<Integer> spliterator = intList.spliterator();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(3, spliterator.estimateSize());
+    }
+
+    @Test
+    @Order(37)
+    void testSpliteratorSplitsLargeList() {
+        intList = listOf(IntStream.range(0, 10_000).boxed().toArray(Integer[]::new));
+
+        Spliterator<Integer> spliterator = intList.spliterator();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(10_000, prefix.estimateSize() + spliterator.estimateSize());
+    }
+
+    @Test
+    @Order(38)
+    void testStream() {
+        intList = listOf(4, 5, 6);
+
+        String elements = intList.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        assertEquals("4,5,6", elements);
+    }
+
+    @Test
+    @Order(39)
+    void testParallelStream() {
+        intList = listOf(IntStream.rangeClosed(1, 100_000).boxed().toArray(Integer[]::new));
+
+        long sum = intList.parallelStream()
+                .mapToLong(Integer::longValue)
+                .sum();
+
+        assertEquals(5_000_050_000L, sum);
+        assertEquals(1, intList.parallelStream().findFirst().orElseThrow().intValue());
+    }
+
+    @Test
+    @Order(40)
+    void testAddAll() {
+        intList = listOf(1, 2);
+
+        intList.addAll(Arrays.asList(3, 4, 5));
+
+        assertArrayEquals(new Object[]{1, 2, 3, 4, 5}, intList.toArray());
+    }
+
+    @Test
+    @Order(41)
+    void testAddAllIntoEmptyList() {
+        intList.addAll(Arrays.asList(3, 4));
+        intList.add(5);
+
+        assertEquals(3, intList.size());
+        assertEquals(5, intList.get(2).intValue());
+    }
+
+    @Test
+    @Order(42)
+    void testAddAllByIndex() {
+        intList = listOf(1, 5);
+
+        intList.addAll(1, Arrays.asList(2, 3, 4));
+        intList.addAll(0, Arrays.asList(-1, 0));
+        intList.addAll(intList.size(), Arrays.asList(6));
+
+        assertArrayEquals(new Object[]{-1, 0, 1, 2, 3, 4, 5, 6}, intList.toArray());
+    }
+
+    @Test
+    @Order(43)
+    void testAddAllByIndexLargerThanListSize() {
+        intList = listOf(1, 2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.addAll(3, Arrays.asList(3, 4)));
+    }
+
+    @Test
+    @Order(44)
+    void testRemoveIf() {
+        intList = listOf(1, 2, 3, 4, 6, 8, 9, 10);
+
+        boolean removed = intList.removeIf(element -> element % 2 == 0);
+
+        assertTrue(removed);
+        assertArrayEquals(new Object[]{1, 3, 9}, intList.toArray());
+        intList.add(11);
+        assertEquals(11, intList.get(3).intValue());
+    }
+
+    @Test
+    @Order(45)
+    void testRemoveIfAllElements() {
+        intList = listOf(2, 4, 6);
+
+        intList.removeIf(element -> true);
+        intList.add(1);
+
+        assertEquals(1, intList.size());
+        assertEquals(1, intList.get(0).intValue());
+    }
+
+    @Test
+    @Order(46)
+    void testRemoveIfNoElements() {
+        intList = listOf(1, 3);
+
+        assertFalse(intList.removeIf(element -> element > 5));
+        assertEquals(2, intList.size());
+    }
+
+    @Test
+    @Order(47)
+    void testToArrayOnEmptyList() {
+        assertArrayEquals(new Object[0], intList.toArray());
+    }
+
+    @Test
+    @Order(48)
+    void testSubList() {
+        intList = listOf(0, 1, 2, 3, 4, 5);
+
+        List<Integer> subList = intList.subList(2, 5);
+
+        assertEquals(3, subList.size());
+        assertArrayEquals(new Object[]{2, 3, 4}, subList.toArray());
+        assertTrue(subList.contains(4));
+        assertFalse(subList.contains(5));
+    }
+
+    @Test
+    @Order(49)
+    void testSubListWritesThrough() {
+        intList = listOf(0, 1, 2, 3, 4, 5);
+
+        List<Integer> subList = intList.subList(1, 4);
+        subList.set(0, 11);
+        subList.add(33);
+        subList.remove(1);
+
+        assertArrayEquals(new Object[]{11, 3, 33}, subList.toArray());
+        assertArrayEquals(new Object[]{0, 11, 3, 33, 4, 5}, intList.toArray());
+    }
+
+    @Test
+    @Order(50)
+    void testSubListClear() {
+        intList = listOf(0, 1, 2, 3, 4, 5);
+
+        intList.subList(1, 5).clear();
+
+        assertArrayEquals(new Object[]{0, 5}, intList.toArray());
+    }
+
+    @Test
+    @Order(51)
+    void testSubListWithInvalidRange() {
+        intList = listOf(0, 1, 2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.subList(2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.subList(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.subList(0, 2).get(2));
+    }
+
+    @Test
+    @Order(52)
+    void testRemoveRange() {
+        intList = listOf(0, 1, 2, 3, 4, 5);
+
+        intList.removeRange(1, 4);
+        intList.removeRange(2, 2);
+
+        assertArrayEquals(new Object[]{0, 4, 5}, intList.toArray());
+        intList.removeRange(0, 3);
+        assertTrue(intList.isEmpty());
+    }
+
+    @Test
+    @Order(53)
+    void testRemoveRangeWithInvalidRange() {
+        intList = listOf(0, 1, 2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.removeRange(2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.removeRange(2, 1));
+        assertEquals(3, intList.size());
+    }
+
+    @Test
+    @Order(54)
+    void testSubListRemoveIf() {
+        intList = listOf(0, 1, 2, 3, 4, 5, 6);
+
+        List<Integer> subList = intList.subList(1, 6);
+
+        assertTrue(subList.removeIf(element -> element % 2 == 0));
+        assertFalse(subList.removeIf(element -> element > 10));
+        assertArrayEquals(new Object[]{1, 3, 5}, subList.toArray());
+        assertArrayEquals(new Object[]{0, 1, 3, 5, 6}, intList.toArray());
+    }
+
+    @Test
+    @Order(55)
+    void testSubListRemoveIfWithThrowingPredicate() {
+        intList = listOf(0, 1, 2, 3, 4, 5);
+
+        List<Integer> subList = intList.subList(1, 5);
+
+        assertThrows(IllegalStateException.class, () -> subList.removeIf(element -> {
+            if (element == 3) {
+                throw new IllegalStateException();
+            }
+            return true;
+        }));
+        assertArrayEquals(new Object[]{0, 1, 2, 3, 4, 5}, intList.toArray());
+        assertEquals(4, subList.size());
+    }
+
+    @Test
+    @Order(56)
+    void testRemoveIfInRange() {
+        intList = listOf(0, 1, 2, 3, 4, 5, 6, 7);
+
+        assertTrue(intList.removeIf(2, 6, element -> element % 2 == 0));
+        assertFalse(intList.removeIf(0, 2, element -> element > 1));
+
+        assertArrayEquals(new Object[]{0, 1, 3, 5, 6, 7}, intList.toArray());
+        assertEquals(6, intList.size());
+    }
+
+    @Test
+    @Order(57)
+    void testRemoveIfInRangeWithThrowingPredicateLeavesListUnchanged() {
+        intList = listOf(0, 1, 2, 3, 4, 5);
+
+        assertThrows(IllegalStateException.class, () -> intList.removeIf(1, 5, element -> {
+            if (element == 4) {
+                throw new IllegalStateException();
+            }
+            return true;
+        }));
+
+        assertArrayEquals(new Object[]{0, 1, 2, 3, 4, 5}, intList.toArray());
+    }
+
+    @Test
+    @Order(58)
+    void testRemoveIfWithInvalidRange() {
+        intList = listOf(0, 1, 2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.removeIf(1, 4, element -> true));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.removeIf(2, 1, element -> true));
+        assertEquals(3, intList.size());
+    }
+
+    @Test
+    @Order(59)
+    void testNestedSubListClearAndRemoveIf() {
+        intList = listOf(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        List<Integer> subList = intList.subList(1, 9);
+        List<Integer> nestedSubList = subList.subList(2, 6);
+        nestedSubList.removeIf(element -> element == 4);
+        nestedSubList.subList(0, 1).clear();
+
+        assertArrayEquals(new Object[]{5, 6}, nestedSubList.toArray());
+        assertArrayEquals(new Object[]{1, 2, 5, 6, 7, 8}, subList.toArray());
+        assertArrayEquals(new Object[]{0, 1, 2, 5, 6, 7, 8, 9}, intList.toArray());
+    }
+}
@@ -0,0 +1,151 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongListTest {
+
+    @Test
+    void testAddAndGetPrimitiveValues() {
+        LongList list = LongList.of(3L, 7L, Long.MAX_VALUE);
+
+        list.addLong(13L);
+        list.setLong(0, 2L);
+
+        assertEquals(4, list.size());
+        assertEquals(2L, list.getLong(0));
+        assertEquals(Long.MAX_VALUE, list.getLong(2));
+        assertTrue(list.containsLong(13L));
+        assertFalse(list.containsLong(3L));
+    }
+
+    @Test
+    void testAddAndRemoveAcrossChunks() {
+        LongList list = new LongList();
+        java.util.List<Long> expected = new java.util.ArrayList<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 5000; i++) {
+            long value = random.nextLong();
+            if (!expected.isEmpty() && random.nextInt(4) == 0) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list.remove(index);
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, value);
+                list.addLong(index, value);
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).longValue(), list.getLong(i));
+        }
+    }
+
+    @Test
+    void testGetByIndexEqualToSize() {
+        LongList list = LongList.of(1L, 2L);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getLong(2));
+    }
+
+    @Test
+    void testClear() {
+        LongList list = LongList.of(1L, 2L);
+
+        list.clear();
+
+        assertTrue(list.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getLong(0));
+    }
+
+    @Test
+    void testLongStream() {
+        LongList list = LongList.of(1L, 2L, Integer.MAX_VALUE);
+
+        assertEquals(3L + Integer.MAX_VALUE, list.longStream().sum());
+    }
+
+    @Test
+    void testIteratorRemove() {
+        LongList list = LongList.of(1L, 2L, 3L);
+
+        PrimitiveIterator.OfLong iterator = list.iterator();
+        iterator.nextLong();
+        iterator.remove();
+
+        assertEquals(2, list.size());
+        assertEquals(2L, list.getLong(0));
+    }
+
+    @Test
+    void testRemoveLongIfAcrossChunks() {
+        LongList list = new LongList();
+        for (long i = 0; i < 3000; i++) {
+            list.addLong(i);
+        }
+
+        boolean removed = list.removeLongIf(value -> value % 3 != 0);
+
+        long[] values = list.toLongArray();
+        assertTrue(removed);
+        assertEquals(1000, values.length);
+        assertEquals(0L, values[0]);
+        assertEquals(2997L, values[999]);
+    }
+
+    @Test
+    void testToLongArray() {
+        LongList list = LongList.of(0L, 1L, 3L);
+
+        assertArrayEquals(new long[]{0L, 1L, 3L}, list.toLongArray());
+    }
+
+    @Test
+    void testRemoveLongIfWithThrowingPredicateLeavesListUnchanged() {
+        LongList list = LongList.of(1L, 2L, 3L, 4L, 5L);
+
+        assertThrows(IllegalStateException.class, () -> list.removeLongIf(value -> {
+            if (value == 4L) {
+                throw new IllegalStateException();
+            }
+            return value % 2 == 1;
+        }));
+
+        assertArrayEquals(new long[]{1L, 2L, 3L, 4L, 5L}, list.toLongArray());
+    }
+
+    @Test
+    void testRemoveRangeAndRemoveLongIfAcrossChunks() {
+        LongList list = new LongList();
+        java.util.List<Long> expected = new java.util.ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            list.addLong(i);
+            expected.add((long) i);
+        }
+
+        list.removeRange(1000, 3100);
+        expected.subList(1000, 3100).clear();
+        list.removeLongIf(500, 2000, value -> value % 2 == 0);
+        expected.subList(500, 2000).removeIf(value -> value % 2 == 0);
+        for (int i = 0; i < 2000; i++) {
+            list.addLong(-i);
+            expected.add((long) -i);
+        }
+
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).longValue(), list.getLong(i));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UnrolledLinkedListTest extends ListTest {
+
+    @Override
+    protected List<Integer> listOf(Integer... elements) {
+        List<Integer> list = new UnrolledLinkedList<>(4);
+        for (Integer element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Test
+    void testAddAndRemoveByIndex() {
+        List<Integer> list = new UnrolledLinkedList<>(4);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 3000; i++) {
+            if (!expected.isEmpty() && random.nextInt(3) == 0) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list.remove(index);
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list.add(index, i);
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    void testIteratorRemoveAllElements() {
+        List<Integer> list = listOf(1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        Iterator<Integer> iterator = list.iterator();
+        int removed = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            removed++;
+        }
+
+        assertEquals(9, removed);
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    void testCursorAddKeepsPosition() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+        UnrolledLinkedList.Cursor<Integer> cursor = list.iterator();
+
+        cursor.add(1);
+        cursor.add(3);
+        cursor = list.iterator();
+        assertEquals(1, cursor.next().intValue());
+        cursor.add(2);
+        assertThrows(IllegalStateException.class, cursor::remove);
+        assertEquals(3, cursor.next().intValue());
+        cursor.add(4);
+
+        assertArrayEquals(new Object[]{1, 2, 3, 4}, list.toArray());
+        assertFalse(cursor.hasNext());
+    }
+
+    @Test
+    void testCursorAddAndRemoveAcrossSplitNodes() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+        java.util.List<Integer> expected = new java.util.LinkedList<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+
+        for (int round = 0; round < 50; round++) {
+            UnrolledLinkedList.Cursor<Integer> cursor = list.iterator();
+            ListIterator<Integer> expectedCursor = expected.listIterator();
+            boolean canRemove = false;
+            for (int step = 0; step < 100; step++) {
+                int action = random.nextInt(3);
+                if (action == 0 && expectedCursor.hasNext()) {
+                    assertEquals(expectedCursor.next(), cursor.next());
+                    canRemove = true;
+                } else if (action == 1 && canRemove) {
+                    expectedCursor.remove();
+                    cursor.remove();
+                    canRemove = false;
+                } else {
+                    int element = 1000 + round * 100 + step;
+                    expectedCursor.add(element);
+                    cursor.add(element);
+                    canRemove = false;
+                }
+                assertEquals(expectedCursor.hasNext(), cursor.hasNext());
+            }
+            assertArrayEquals(expected.toArray(), list.toArray());
+        }
+        assertEquals(expected.size(), list.size());
+    }
+
+    @Test
+    void testCursorAddInvalidatesOtherIterators() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+        list.add(1);
+        Iterator<Integer> other = list.iterator();
+
+        list.iterator().add(0);
+
+        assertThrows(ConcurrentModificationException.class, other::next);
+    }
+
+    @Test
+    void testRemoveRangeAndRemoveIfAcrossNodes() {
+        List<Integer> list = new UnrolledLinkedList<>(4);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(13);
+
+        for (int round = 0; round < 300; round++) {
+            for (int i = random.nextInt(30); i > 0; i--) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, round * 100 + i);
+                list.add(index, round * 100 + i);
+            }
+            int from = random.nextInt(expected.size() + 1);
+            int to = from + random.nextInt(expected.size() - from + 1);
+            if (random.nextBoolean()) {
+                expected.subList(from, to).clear();
+                list.removeRange(from, to);
+            } else {
+                int divisor = 1 + random.nextInt(3);
+                expected.subList(from, to).removeIf(element -> element % divisor == 0);
+                list.removeIf(from, to, element -> element % divisor == 0);
+            }
+            assertArrayEquals(expected.toArray(), list.toArray());
+            assertEquals(expected.size(), list.size());
+        }
+    }
+
+    @Test
+    void testCreateListWithTooSmallNodeCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new UnrolledLinkedList<>(1));
+    }
+}
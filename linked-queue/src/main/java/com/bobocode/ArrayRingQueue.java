@@ -0,0 +1,266 @@
+package com.bobocode;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link ArrayRingQueue} is a bounded FIFO {@link BlockingQueue} that is based on a ring buffer. Its capacity is
+ * rounded up to a power of two, so an array index is computed by masking a counter instead of division. Elements are
+ * stored directly in the array, so adding an element does not allocate any memory.
+ * <p>
+ * When the queue is full, {@link ArrayRingQueue#offer(Object)} returns {@code false}, {@link ArrayRingQueue#add(Object)}
+ * throws {@link IllegalStateException}, and {@link ArrayRingQueue#put(Object)} waits until there is a free space.
+ * When the queue is empty, {@link ArrayRingQueue#poll()} returns {@code null}, and {@link ArrayRingQueue#take()} waits
+ * until an element is added. All operations are guarded by one lock. {@code null} elements are not allowed.
+ *
+ * @param <T> a generic parameter
+ */
+public class ArrayRingQueue<T> implements BlockingQueue<T> {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final Object[] elements;
+    private final int mask;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private int head;
+    private int tail;
+
+    /**
+     * Creates an empty queue
+     *
+     * @param capacity max number of elements, it is rounded up to the nearest power of two
+     */
+    public ArrayRingQueue(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        int powerOfTwoCapacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.elements = new Object[powerOfTwoCapacity];
+        this.mask = powerOfTwoCapacity - 1;
+    }
+
+    /**
+     * Adds an element to the end of the queue. In case the queue is full it throws {@link IllegalStateException}.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if it is not full.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     */
+    @Override
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        lock.lock();
+        try {
+            if (tail - head == elements.length) {
+                return false;
+            }
+            enqueue(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue, waiting for a free space if the queue is full.
+     *
+     * @param element the element to add
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public void put(T element) throws InterruptedException {
+        Objects.requireNonNull(element);
+        lock.lockInterruptibly();
+        try {
+            while (tail - head == elements.length) {
+                notFull.await();
+            }
+            enqueue(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        lock.lock();
+        try {
+            return head == tail ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head, waiting for an element if the queue is empty.
+     *
+     * @return an element that was retrieved from the head
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (head == tail) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head, waiting up to the specified time for an element if the queue is empty.
+     *
+     * @param timeout how long to wait
+     * @param unit    a unit of timeout
+     * @return an element that was retrieved from the head or null if the time elapsed before an element was added
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (head == tail) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds all elements of the collection to the end of the queue under a single lock acquisition. In case there is
+     * not enough free space for all elements it throws {@link IllegalStateException} and adds nothing.
+     *
+     * @param elements the elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        Object[] newElements = elements.toArray();
+        for (Object element : newElements) {
+            Objects.requireNonNull(element);
+        }
+        lock.lock();
+        try {
+            if (this.elements.length - (tail - head) < newElements.length) {
+                throw new IllegalStateException("Queue does not have enough free space");
+            }
+            for (Object element : newElements) {
+                this.elements[tail++ & mask] = element;
+            }
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes up to {@code maxElements} elements from the head of the queue under a single lock
+     * acquisition, and adds them to the collection. An element is removed only after the collection accepted it.
+     *
+     * @param collection  the collection to transfer elements into
+     * @param maxElements max number of elements to transfer
+     * @return the number of transferred elements
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drainTo(Collection<? super T> collection, int maxElements) {
+        Objects.requireNonNull(collection);
+        lock.lock();
+        try {
+            int count = Math.min(maxElements, tail - head);
+            int drained = 0;
+            try {
+                while (drained < count) {
+                    int index = head & mask;
+                    collection.add((T) elements[index]);
+                    elements[index] = null;
+                    head++;
+                    drained++;
+                }
+            } finally {
+                if (drained > 0) {
+                    notFull.signalAll();
+                }
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return tail - head;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns max number of elements that the queue can hold.
+     *
+     * @return capacity of the queue, which is a power of two
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    private void enqueue(T element) {
+        elements[tail++ & mask] = element;
+        notEmpty.signal();
+    }
+
+    @SuppressWarnings("unchecked")
+    private T dequeue() {
+        int index = head++ & mask;
+        T element = (T) elements[index];
+        elements[index] = null;
+        notFull.signal();
+        return element;
+    }
+}
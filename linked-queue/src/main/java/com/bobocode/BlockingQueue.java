@@ -0,0 +1,43 @@
+package com.bobocode;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BlockingQueue is a thread-safe {@link Queue} that allows to wait for an element when the queue is empty, and to wait
+ * for a free space when the queue is full. Waiting threads are parked, so they do not consume CPU.
+ */
+public interface BlockingQueue<T> extends Queue<T> {
+    /**
+     * Adds an element to the end of the queue if it is not full.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     */
+    boolean offer(T element);
+
+    /**
+     * Adds an element to the end of the queue, waiting for a free space if the queue is full.
+     *
+     * @param element the element to add
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void put(T element) throws InterruptedException;
+
+    /**
+     * Retrieves and removes queue head, waiting for an element if the queue is empty.
+     *
+     * @return an element that was retrieved from the head
+     * @throws InterruptedException if interrupted while waiting
+     */
+    T take() throws InterruptedException;
+
+    /**
+     * Retrieves and removes queue head, waiting up to the specified time for an element if the queue is empty.
+     *
+     * @param timeout how long to wait
+     * @param unit    a unit of timeout
+     * @return an element that was retrieved from the head or null if the time elapsed before an element was added
+     * @throws InterruptedException if interrupted while waiting
+     */
+    T poll(long timeout, TimeUnit unit) throws InterruptedException;
+}
@@ -0,0 +1,274 @@
+package com.bobocode;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * {@link ConcurrentLinkedQueue} is a thread-safe lock-free FIFO {@link Queue}, that implements Michael-Scott algorithm.
+ * The queue always starts with a dummy node. Operation {@link ConcurrentLinkedQueue#add(Object)} links a new node to
+ * the last node using CAS, and {@link ConcurrentLinkedQueue#poll()} moves the head to the next node using CAS. The tail
+ * may lag behind the last node, so any thread that sees it helps to move it forward.
+ * <p>
+ * Operations {@link ConcurrentLinkedQueue#add(Object)}, {@link ConcurrentLinkedQueue#poll()} and
+ * {@link ConcurrentLinkedQueue#isEmpty()} are performed in a constant time. Operation
+ * {@link ConcurrentLinkedQueue#size()} traverses the queue, so it takes linear time and its result may be inaccurate if
+ * other threads change the queue at the same time. {@code null} elements are not allowed, since {@code null} means that
+ * the queue is empty.
+ * <p>
+ * Batch operations {@link ConcurrentLinkedQueue#addAll(Collection)} and
+ * {@link ConcurrentLinkedQueue#drainTo(Collection, int)} link or unlink a whole chain of nodes with a single CAS. If
+ * the collection throws during a drain, elements of the batch that were not transferred are linked back in front of
+ * the queue.
+ *
+ * @param <T> a generic parameter
+ */
+public class ConcurrentLinkedQueue<T> implements Queue<T> {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(ConcurrentLinkedQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(ConcurrentLinkedQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<T> head;
+    private volatile Node<T> tail;
+
+    private static class Node<T> {
+        private T element;
+        private volatile Node<T> next;
+
+        private Node(T element) {
+            this.element = element;
+        }
+    }
+
+    public ConcurrentLinkedQueue() {
+        head = tail = new Node<>(null);
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        Node<T> newNode = new Node<>(Objects.requireNonNull(element));
+        while (true) {
+            Node<T> last = tail;
+            Node<T> next = last.next;
+            if (last == tail) {
+                if (next == null) {
+                    if (NEXT.compareAndSet(last, null, newNode)) {
+                        TAIL.compareAndSet(this, last, newNode);
+                        return;
+                    }
+                } else {
+                    TAIL.compareAndSet(this, last, next);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        while (true) {
+            Node<T> first = head;
+            Node<T> last = tail;
+            Node<T> next = first.next;
+            if (first == head) {
+                if (first == last) {
+                    if (next == null) {
+                        return null;
+                    }
+                    TAIL.compareAndSet(this, last, next);
+                } else {
+                    T element = next.element;
+                    if (HEAD.compareAndSet(this, first, next)) {
+                        next.element = null;
+                        return element;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds all elements of the collection to the end of the queue. A chain of new nodes is built first, and then it is
+     * linked to the last node with a single CAS.
+     *
+     * @param elements the elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        Node<T> first = null;
+        Node<T> chainLast = null;
+        for (T element : elements) {
+            Node<T> newNode = new Node<>(Objects.requireNonNull(element));
+            if (first == null) {
+                first = newNode;
+            } else {
+                chainLast.next = newNode;
+            }
+            chainLast = newNode;
+        }
+        if (first == null) {
+            return;
+        }
+        while (true) {
+            Node<T> last = tail;
+            Node<T> next = last.next;
+            if (last == tail) {
+                if (next == null) {
+                    if (NEXT.compareAndSet(last, null, first)) {
+                        TAIL.compareAndSet(this, last, chainLast);
+                        return;
+                    }
+                } else {
+                    TAIL.compareAndSet(this, last, next);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes up to {@code maxElements} elements from the head of the queue and adds them to the
+     * collection. The head is moved over the whole batch with a single CAS. A batch never goes beyond the tail, so
+     * the tail never lags behind the head. If the collection throws, the element it rejected and the rest of the batch
+     * are linked back in front of the queue.
+     *
+     * @param collection  the collection to transfer elements into
+     * @param maxElements max number of elements to transfer
+     * @return the number of transferred elements
+     */
+    @Override
+    public int drainTo(Collection<? super T> collection, int maxElements) {
+        Objects.requireNonNull(collection);
+        if (maxElements <= 0) {
+            return 0;
+        }
+        while (true) {
+            Node<T> first = head;
+            Node<T> last = tail;
+            Node<T> next = first.next;
+            if (first != head) {
+                continue;
+            }
+            if (next == null) {
+                return 0;
+            }
+            if (first == last) {
+                TAIL.compareAndSet(this, last, next);
+                continue;
+            }
+            Node<T> newHead = first;
+            int count = 0;
+            while (count < maxElements && newHead != last && newHead.next != null) {
+                newHead = newHead.next;
+                count++;
+            }
+            if (HEAD.compareAndSet(this, first, newHead)) {
+                Node<T> current = first.next;
+                try {
+                    while (true) {
+                        collection.add(current.element);
+                        current.element = null;
+                        if (current == newHead) {
+                            return count;
+                        }
+                        current = current.next;
+                    }
+                } finally {
+                    if (current.element != null) {
+                        linkBackAtHead(current, newHead);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Links copies of claimed nodes from {@code from} to {@code to} back in front of the queue. A new dummy node with
+     * the chain is swapped in as the head with a CAS. If the queue is empty, the chain is linked after the last node
+     * instead, so the tail never stays behind a detached head.
+     */
+    private void linkBackAtHead(Node<T> from, Node<T> to) {
+        Node<T> chainFirst = null;
+        Node<T> chainLast = null;
+        for (Node<T> node = from; ; node = node.next) {
+            Node<T> copy = new Node<>(node.element);
+            node.element = null;
+            if (chainFirst == null) {
+                chainFirst = copy;
+            } else {
+                chainLast.next = copy;
+            }
+            chainLast = copy;
+            if (node == to) {
+                break;
+            }
+        }
+        Node<T> newHead = new Node<>(null);
+        newHead.next = chainFirst;
+        while (true) {
+            Node<T> first = head;
+            Node<T> last = tail;
+            Node<T> next = first.next;
+            if (first != head) {
+                continue;
+            }
+            if (next == null) {
+                if (NEXT.compareAndSet(first, null, chainFirst)) {
+                    TAIL.compareAndSet(this, first, chainLast);
+                    return;
+                }
+            } else if (first == last) {
+                TAIL.compareAndSet(this, last, next);
+            } else {
+                chainLast.next = next;
+                if (HEAD.compareAndSet(this, first, newHead)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a size of the queue. It traverses the queue, so it takes linear time.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        for (Node<T> current = head.next; current != null && size < Integer.MAX_VALUE; current = current.next) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+}
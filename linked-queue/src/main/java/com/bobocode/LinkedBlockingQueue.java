@@ -0,0 +1,335 @@
+package com.bobocode;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link LinkedBlockingQueue} implements {@link BlockingQueue}, using singly linked nodes and an optional capacity
+ * bound. It follows two-lock design: producers take only the put lock to link a node to the tail, and consumers take
+ * only the take lock to move the head, so producers and consumers do not contend with each other. The number of
+ * elements is kept in an atomic counter, that is shared by both sides.
+ * <p>
+ * The head is always a dummy node, so a producer and a consumer never change the same node, even if there is only
+ * one element in the queue. {@code null} elements are not allowed.
+ *
+ * @param <T> a generic parameter
+ */
+public class LinkedBlockingQueue<T> implements BlockingQueue<T> {
+    private final int capacity;
+    private final AtomicInteger count = new AtomicInteger();
+    private final ReentrantLock takeLock = new ReentrantLock();
+    private final Condition notEmpty = takeLock.newCondition();
+    private final ReentrantLock putLock = new ReentrantLock();
+    private final Condition notFull = putLock.newCondition();
+    private Node<T> head;
+    private Node<T> tail;
+
+    private static class Node<T> {
+        private T element;
+        private Node<T> next;
+
+        private Node(T element) {
+            this.element = element;
+        }
+    }
+
+    /**
+     * Creates an empty unbounded queue
+     */
+    public LinkedBlockingQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates an empty bounded queue
+     *
+     * @param capacity max number of elements
+     */
+    public LinkedBlockingQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        head = tail = new Node<>(null);
+    }
+
+    /**
+     * Adds an element to the end of the queue. In case the queue is full it throws {@link IllegalStateException}.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    @Override
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        if (count.get() == capacity) {
+            return false;
+        }
+        int countBefore;
+        putLock.lock();
+        try {
+            if (count.get() == capacity) {
+                return false;
+            }
+            enqueue(new Node<>(element));
+            countBefore = count.getAndIncrement();
+            if (countBefore + 1 < capacity) {
+                notFull.signal();
+            }
+        } finally {
+            putLock.unlock();
+        }
+        if (countBefore == 0) {
+            signalNotEmpty();
+        }
+        return true;
+    }
+
+    @Override
+    public void put(T element) throws InterruptedException {
+        Objects.requireNonNull(element);
+        Node<T> newNode = new Node<>(element);
+        int countBefore;
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() == capacity) {
+                notFull.await();
+            }
+            enqueue(newNode);
+            countBefore = count.getAndIncrement();
+            if (countBefore + 1 < capacity) {
+                notFull.signal();
+            }
+        } finally {
+            putLock.unlock();
+        }
+        if (countBefore == 0) {
+            signalNotEmpty();
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        if (count.get() == 0) {
+            return null;
+        }
+        T element;
+        int countBefore;
+        takeLock.lock();
+        try {
+            if (count.get() == 0) {
+                return null;
+            }
+            element = dequeue();
+            countBefore = count.getAndDecrement();
+            if (countBefore > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (countBefore == capacity) {
+            signalNotFull();
+        }
+        return element;
+    }
+
+    @Override
+    public T take() throws InterruptedException {
+        T element;
+        int countBefore;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                notEmpty.await();
+            }
+            element = dequeue();
+            countBefore = count.getAndDecrement();
+            if (countBefore > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (countBefore == capacity) {
+            signalNotFull();
+        }
+        return element;
+    }
+
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        T element;
+        int countBefore;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            element = dequeue();
+            countBefore = count.getAndDecrement();
+            if (countBefore > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (countBefore == capacity) {
+            signalNotFull();
+        }
+        return element;
+    }
+
+    /**
+     * Adds all elements of the collection to the end of the queue under a single put lock acquisition. A chain of new
+     * nodes is built before taking the lock. In case there is not enough free space for all elements it throws
+     * {@link IllegalStateException} and adds nothing.
+     *
+     * @param elements the elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        Node<T> first = null;
+        Node<T> last = null;
+        int added = 0;
+        for (T element : elements) {
+            Node<T> newNode = new Node<>(Objects.requireNonNull(element));
+            if (first == null) {
+                first = newNode;
+            } else {
+                last.next = newNode;
+            }
+            last = newNode;
+            added++;
+        }
+        if (first == null) {
+            return;
+        }
+        int countBefore;
+        putLock.lock();
+        try {
+            if (capacity - count.get() < added) {
+                throw new IllegalStateException("Queue does not have enough free space");
+            }
+            tail.next = first;
+            tail = last;
+            countBefore = count.getAndAdd(added);
+            if (countBefore + added < capacity) {
+                notFull.signal();
+            }
+        } finally {
+            putLock.unlock();
+        }
+        if (countBefore == 0) {
+            signalNotEmpty();
+        }
+    }
+
+    /**
+     * Retrieves and removes up to {@code maxElements} elements from the head of the queue under a single take lock
+     * acquisition, and adds them to the collection. An element is dequeued only after the collection accepted it, and
+     * the count is updated by the number of elements actually removed even if the collection throws.
+     *
+     * @param collection  the collection to transfer elements into
+     * @param maxElements max number of elements to transfer
+     * @return the number of transferred elements
+     */
+    @Override
+    public int drainTo(Collection<? super T> collection, int maxElements) {
+        Objects.requireNonNull(collection);
+        if (maxElements <= 0) {
+            return 0;
+        }
+        int drained = 0;
+        int countBefore = 0;
+        takeLock.lock();
+        try {
+            int available = Math.min(maxElements, count.get());
+            while (drained < available) {
+                collection.add(head.next.element);
+                dequeue();
+                drained++;
+            }
+        } finally {
+            if (drained > 0) {
+                countBefore = count.getAndAdd(-drained);
+            }
+            takeLock.unlock();
+            if (countBefore == capacity) {
+                signalNotFull();
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return count.get() == 0;
+    }
+
+    private void enqueue(Node<T> node) {
+        tail.next = node;
+        tail = node;
+    }
+
+    private T dequeue() {
+        Node<T> first = head.next;
+        head.next = null;
+        head = first;
+        T element = first.element;
+        first.element = null;
+        return element;
+    }
+
+    private void signalNotEmpty() {
+        takeLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    private void signalNotFull() {
+        putLock.lock();
+        try {
+            notFull.signal();
+        } finally {
+            putLock.unlock();
+        }
+    }
+}
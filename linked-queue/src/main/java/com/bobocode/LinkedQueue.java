@@ -1,13 +1,51 @@
 package com.bobocode;
 
+import java.util.Collection;
+import java.util.Objects;
+
 /**
  * {@link LinkedQueue} implements FIFO {@link Queue}, using singly linked nodes. Nodes are stores in instances of nested
  * class Node. In order to perform operations {@link LinkedQueue#add(Object)} and {@link LinkedQueue#poll()}
- * in a constant time, it keeps to references to the head and tail of the queue.
+ * in a constant time, it keeps to references to the head and tail of the queue. Batch operations link or unlink
+ * a whole chain of nodes in one step.
+ * <p>
+ * Optionally, the queue recycles nodes. Polled nodes are kept in a bounded free list, and are reused by next
+ * {@link LinkedQueue#add(Object)} calls, so a queue with a stable size does not allocate memory in a steady state.
  *
  * @param <T> a generic parameter
  */
 public class LinkedQueue<T> implements Queue<T> {
+    private final int maxPooledNodes;
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+    private Node<T> pool;
+    private int pooledNodes;
+
+    private static class Node<T> {
+        private T element;
+        private Node<T> next;
+
+        private Node(T element) {
+            this.element = element;
+        }
+    }
+
+    public LinkedQueue() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty queue that recycles polled nodes
+     *
+     * @param maxPooledNodes max number of polled nodes kept for reuse, {@code 0} disables recycling
+     */
+    public LinkedQueue(int maxPooledNodes) {
+        if (maxPooledNodes < 0) {
+            throw new IllegalArgumentException("Max number of pooled nodes cannot be negative");
+        }
+        this.maxPooledNodes = maxPooledNodes;
+    }
 
     /**
      * Adds an element to the end of the queue.
@@ -15,7 +53,14 @@ public class LinkedQueue<T> implements Queue<T> {
      * @param element the element to add
      */
     public void add(T element) {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        Node<T> newNode = obtainNode(element);
+        if (tail == null) {
+            head = newNode;
+        } else {
+            tail.next = newNode;
+        }
+        tail = newNode;
+        size++;
     }
 
     /**
@@ -24,7 +69,87 @@ public class LinkedQueue<T> implements Queue<T> {
      * @return an element that was retrieved from the head or null if queue is empty
      */
     public T poll() {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        if (head == null) {
+            return null;
+        }
+        Node<T> polled = head;
+        T element = polled.element;
+        head = polled.next;
+        recycle(polled);
+        if (head == null) {
+            tail = null;
+        }
+        size--;
+        return element;
+    }
+
+    /**
+     * Adds all elements of the collection to the end of the queue. A chain of new nodes is built first, and then it is
+     * linked to the tail in one step.
+     *
+     * @param elements the elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        Node<T> first = null;
+        Node<T> last = null;
+        int count = 0;
+        for (T element : elements) {
+            Node<T> newNode = obtainNode(element);
+            if (first == null) {
+                first = newNode;
+            } else {
+                last.next = newNode;
+            }
+            last = newNode;
+            count++;
+        }
+        if (first == null) {
+            return;
+        }
+        if (tail == null) {
+            head = first;
+        } else {
+            tail.next = first;
+        }
+        tail = last;
+        size += count;
+    }
+
+    /**
+     * Retrieves and removes up to {@code maxElements} elements from the head of the queue and adds them to the
+     * collection. The head is moved once after the whole batch. If the collection throws, the elements added before
+     * are removed from the queue and the rest stay in it.
+     *
+     * @param collection  the collection to transfer elements into
+     * @param maxElements max number of elements to transfer
+     * @return the number of transferred elements
+     */
+    @Override
+    public int drainTo(Collection<? super T> collection, int maxElements) {
+        Objects.requireNonNull(collection);
+        Node<T> first = head;
+        Node<T> current = first;
+        int drained = 0;
+        try {
+            while (current != null && drained < maxElements) {
+                collection.add(current.element);
+                current = current.next;
+                drained++;
+            }
+        } finally {
+            head = current;
+            if (head == null) {
+                tail = null;
+            }
+            size -= drained;
+            while (first != current) {
+                Node<T> next = first.next;
+                recycle(first);
+                first = next;
+            }
+        }
+        return drained;
     }
 
     /**
@@ -33,7 +158,7 @@ public class LinkedQueue<T> implements Queue<T> {
      * @return an integer value that is a size of queue
      */
     public int size() {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        return size;
     }
 
     /**
@@ -42,6 +167,29 @@ public class LinkedQueue<T> implements Queue<T> {
      * @return {@code true} if the queue is empty, returns {@code false} if it's not
      */
     public boolean isEmpty() {
-        throw new UnsupportedOperationException("This method is not implemented yet"); // todo: implement this method
+        return size == 0;
+    }
+
+    private Node<T> obtainNode(T element) {
+        Node<T> node = pool;
+        if (node == null) {
+            return new Node<>(element);
+        }
+        pool = node.next;
+        pooledNodes--;
+        node.next = null;
+        node.element = element;
+        return node;
+    }
+
+    private void recycle(Node<T> node) {
+        node.element = null;
+        if (pooledNodes < maxPooledNodes) {
+            node.next = pool;
+            pool = node;
+            pooledNodes++;
+        } else {
+            node.next = null;
+        }
     }
 }
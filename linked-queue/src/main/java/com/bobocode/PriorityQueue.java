@@ -0,0 +1,164 @@
+package com.bobocode;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * {@link PriorityQueue} is a {@link Queue}, that retrieves elements in the order defined by a {@link Comparator}
+ * instead of FIFO order. It is based on an array-backed 4-ary heap. Compared to a binary heap, the tree is two times
+ * lower, and all four children of a node are placed next to each other in the array, so sifting an element down
+ * touches fewer cache lines.
+ * <p>
+ * Operations {@link PriorityQueue#add(Object)} and {@link PriorityQueue#poll()} are performed in O(log n) time.
+ * A queue created from a collection is built by heapify in linear time. Elements that are equal according to
+ * the comparator are retrieved in no particular order. {@code null} elements are not allowed.
+ *
+ * @param <T> a generic parameter
+ */
+public class PriorityQueue<T> implements Queue<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int ARITY_SHIFT = 2;
+
+    private final Comparator<? super T> comparator;
+    private Object[] heap;
+    private int size;
+
+    /**
+     * Creates an empty queue
+     *
+     * @param comparator a comparator that defines elements priority, the least element is retrieved first
+     */
+    public PriorityQueue(Comparator<? super T> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+        this.heap = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates a queue of provided elements using heapify, that takes linear time
+     *
+     * @param elements   initial elements
+     * @param comparator a comparator that defines elements priority, the least element is retrieved first
+     */
+    public PriorityQueue(Collection<? extends T> elements, Comparator<? super T> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+        this.heap = Arrays.copyOf(elements.toArray(), Math.max(elements.size(), DEFAULT_CAPACITY), Object[].class);
+        this.size = elements.size();
+        for (int i = 0; i < size; i++) {
+            Objects.requireNonNull(heap[i]);
+        }
+        for (int i = parent(size - 1); i >= 0; i--) {
+            siftDown(i, elementAt(i));
+        }
+    }
+
+    /**
+     * Adds an element to the queue.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length + (heap.length >> 1));
+        }
+        siftUp(size++, element);
+    }
+
+    /**
+     * Retrieves and removes the least element of the queue.
+     *
+     * @return the least element or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        if (size == 0) {
+            return null;
+        }
+        T first = elementAt(0);
+        T last = elementAt(--size);
+        heap[size] = null;
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return first;
+    }
+
+    /**
+     * Retrieves, but does not remove the least element of the queue.
+     *
+     * @return the least element or null if queue is empty
+     */
+    public T peek() {
+        return size == 0 ? null : elementAt(0);
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void siftUp(int index, T element) {
+        while (index > 0) {
+            int parent = parent(index);
+            T parentElement = elementAt(parent);
+            if (comparator.compare(element, parentElement) >= 0) {
+                break;
+            }
+            heap[index] = parentElement;
+            index = parent;
+        }
+        heap[index] = element;
+    }
+
+    private void siftDown(int index, T element) {
+        while (true) {
+            int firstChild = (index << ARITY_SHIFT) + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + (1 << ARITY_SHIFT), size);
+            int minChild = firstChild;
+            T minElement = elementAt(firstChild);
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                T childElement = elementAt(child);
+                if (comparator.compare(childElement, minElement) < 0) {
+                    minChild = child;
+                    minElement = childElement;
+                }
+            }
+            if (comparator.compare(element, minElement) <= 0) {
+                break;
+            }
+            heap[index] = minElement;
+            index = minChild;
+        }
+        heap[index] = element;
+    }
+
+    private static int parent(int index) {
+        return (index - 1) >> ARITY_SHIFT;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) heap[index];
+    }
+}
@@ -1,5 +1,8 @@
 package com.bobocode;
 
+import java.util.Collection;
+import java.util.Objects;
+
 /**
  * Queue is a data structure that follows "first in, first out" rule (FIFO). Operations {@link Queue#add(Object)} and
  * {@link Queue#poll()} are performed in constant time O(1)
@@ -32,4 +35,34 @@ public interface Queue<T> {
      * @return {@code true} if the queue is empty, returns {@code false} if it's not
      */
     boolean isEmpty();
+
+    /**
+     * Adds all elements of the collection to the end of the queue.
+     *
+     * @param elements the elements to add
+     */
+    default void addAll(Collection<? extends T> elements) {
+        for (T element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Retrieves and removes up to {@code maxElements} elements from the head of the queue and adds them to the
+     * collection.
+     *
+     * @param collection  the collection to transfer elements into
+     * @param maxElements max number of elements to transfer
+     * @return the number of transferred elements
+     */
+    default int drainTo(Collection<? super T> collection, int maxElements) {
+        Objects.requireNonNull(collection);
+        int drained = 0;
+        T element;
+        while (drained < maxElements && (element = poll()) != null) {
+            collection.add(element);
+            drained++;
+        }
+        return drained;
+    }
 }
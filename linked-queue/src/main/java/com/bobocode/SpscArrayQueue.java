@@ -0,0 +1,240 @@
+package com.bobocode;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/*
+ * Padding classes below place producer and consumer counters on separate cache lines. JVM lays out fields of a super
+ * class before fields of a subclass, so each group of counters is surrounded by 56 bytes of unused long fields.
+ */
+abstract class SpscArrayQueuePad0 {
+    long p00, p01, p02, p03, p04, p05, p06;
+}
+
+abstract class SpscArrayQueueProducerFields extends SpscArrayQueuePad0 {
+    volatile long tail;
+    long headCache;
+}
+
+abstract class SpscArrayQueuePad1 extends SpscArrayQueueProducerFields {
+    long p10, p11, p12, p13, p14, p15, p16;
+}
+
+abstract class SpscArrayQueueConsumerFields extends SpscArrayQueuePad1 {
+    volatile long head;
+    long tailCache;
+}
+
+abstract class SpscArrayQueuePad2 extends SpscArrayQueueConsumerFields {
+    long p20, p21, p22, p23, p24, p25, p26;
+}
+
+/**
+ * {@link SpscArrayQueue} is a bounded wait-free FIFO {@link Queue} for exactly one producer thread and one consumer
+ * thread. Only the producer may call {@link SpscArrayQueue#add(Object)} and {@link SpscArrayQueue#offer(Object)}, and
+ * only the consumer may call {@link SpscArrayQueue#poll()} and {@link SpscArrayQueue#drainTo(Consumer, int)}.
+ * <p>
+ * Each counter is written by a single thread, so it is published with a release store (lazy set) instead of CAS or a
+ * full fence. Producer and consumer counters are placed on different cache lines, and each side caches the last seen
+ * value of the other side counter, so the threads touch each other cache line only when the queue looks full or empty.
+ * Its capacity is rounded up to a power of two. {@code null} elements are not allowed.
+ *
+ * @param <T> a generic parameter
+ */
+public class SpscArrayQueue<T> extends SpscArrayQueuePad2 implements Queue<T> {
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final VarHandle TAIL;
+    private static final VarHandle HEAD;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TAIL = lookup.findVarHandle(SpscArrayQueueProducerFields.class, "tail", long.class);
+            HEAD = lookup.findVarHandle(SpscArrayQueueConsumerFields.class, "head", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] elements;
+    private final int mask;
+
+    /**
+     * Creates an empty queue
+     *
+     * @param capacity max number of elements, it is rounded up to the nearest power of two
+     */
+    public SpscArrayQueue(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        int powerOfTwoCapacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.elements = new Object[powerOfTwoCapacity];
+        this.mask = powerOfTwoCapacity - 1;
+    }
+
+    /**
+     * Adds an element to the end of the queue. In case the queue is full it throws {@link IllegalStateException}.
+     * Must be called only by the producer thread.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if it is not full. Must be called only by the producer thread.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        long currentTail = tail;
+        if (currentTail - headCache >= elements.length) {
+            headCache = head;
+            if (currentTail - headCache >= elements.length) {
+                return false;
+            }
+        }
+        elements[(int) currentTail & mask] = element;
+        TAIL.setRelease(this, currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Adds all elements of the collection to the end of the queue and publishes the tail once. In case there is not
+     * enough free space for all elements it throws {@link IllegalStateException} and adds nothing. Must be called only
+     * by the producer thread.
+     *
+     * @param elements the elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        Object[] newElements = elements.toArray();
+        for (Object element : newElements) {
+            Objects.requireNonNull(element);
+        }
+        long currentTail = tail;
+        if (this.elements.length - (currentTail - headCache) < newElements.length) {
+            headCache = head;
+            if (this.elements.length - (currentTail - headCache) < newElements.length) {
+                throw new IllegalStateException("Queue does not have enough free space");
+            }
+        }
+        for (int i = 0; i < newElements.length; i++) {
+            this.elements[(int) (currentTail + i) & mask] = newElements[i];
+        }
+        TAIL.setRelease(this, currentTail + newElements.length);
+    }
+
+    /**
+     * Retrieves and removes queue head. Must be called only by the consumer thread.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long currentHead = head;
+        if (currentHead >= tailCache) {
+            tailCache = tail;
+            if (currentHead >= tailCache) {
+                return null;
+            }
+        }
+        int index = (int) currentHead & mask;
+        T element = (T) elements[index];
+        elements[index] = null;
+        HEAD.setRelease(this, currentHead + 1);
+        return element;
+    }
+
+    /**
+     * Retrieves and removes up to {@code maxElements} elements from the head and passes them to the consumer. The head
+     * counter is published once per batch. Must be called only by the consumer thread.
+     *
+     * @param consumer    a consumer of retrieved elements
+     * @param maxElements max number of elements to retrieve
+     * @return number of retrieved elements
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        Objects.requireNonNull(consumer);
+        long currentHead = head;
+        tailCache = tail;
+        int count = (int) Math.min(maxElements, tailCache - currentHead);
+        int drained = 0;
+        try {
+            while (drained < count) {
+                int index = (int) (currentHead + drained) & mask;
+                consumer.accept((T) elements[index]);
+                elements[index] = null;
+                drained++;
+            }
+        } finally {
+            if (drained > 0) {
+                HEAD.setRelease(this, currentHead + drained);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Retrieves and removes up to {@code maxElements} elements from the head and adds them to the collection. The head
+     * counter is published once per batch. Must be called only by the consumer thread.
+     *
+     * @param collection  the collection to transfer elements into
+     * @param maxElements max number of elements to transfer
+     * @return the number of transferred elements
+     */
+    @Override
+    public int drainTo(Collection<? super T> collection, int maxElements) {
+        Objects.requireNonNull(collection);
+        return drainTo(collection::add, maxElements);
+    }
+
+    /**
+     * Returns a size of the queue. The result may be already outdated when it is returned, if producer or consumer
+     * works at the same time.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        while (true) {
+            long headBefore = head;
+            long currentTail = tail;
+            long headAfter = head;
+            if (headBefore == headAfter) {
+                return (int) (currentTail - headAfter);
+            }
+        }
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    /**
+     * Returns max number of elements that the queue can hold.
+     *
+     * @return capacity of the queue, which is a power of two
+     */
+    public int capacity() {
+        return elements.length;
+    }
+}
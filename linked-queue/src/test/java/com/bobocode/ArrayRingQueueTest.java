@@ -0,0 +1,97 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArrayRingQueueTest extends QueueTest {
+
+    @Override
+    protected Queue<Integer> createQueue() {
+        return new ArrayRingQueue<>(16);
+    }
+
+    @Test
+    void testCapacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(1, new ArrayRingQueue<>(1).capacity());
+        assertEquals(8, new ArrayRingQueue<>(5).capacity());
+        assertEquals(8, new ArrayRingQueue<>(8).capacity());
+    }
+
+    @Test
+    void testCreateQueueWithInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new ArrayRingQueue<>(0));
+    }
+
+    @Test
+    void testOfferToFullQueue() {
+        ArrayRingQueue<Integer> queue = new ArrayRingQueue<>(2);
+
+        assertTrue(queue.offer(1));
+        assertTrue(queue.offer(2));
+        assertFalse(queue.offer(3));
+        assertThrows(IllegalStateException.class, () -> queue.add(3));
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    void testWrapAround() {
+        ArrayRingQueue<Integer> queue = new ArrayRingQueue<>(4);
+
+        for (int i = 0; i < 100; i++) {
+            queue.add(i);
+            queue.add(i + 1000);
+            assertEquals(i, queue.poll().intValue());
+            assertEquals(i + 1000, queue.poll().intValue());
+        }
+
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testPutBlocksProducerUntilConsumerTakes() throws Exception {
+        ArrayRingQueue<Integer> queue = new ArrayRingQueue<>(4);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> producer = executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    queue.put(i);
+                }
+                return null;
+            });
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i, queue.take().intValue());
+                assertTrue(queue.size() <= queue.capacity());
+            }
+            producer.get(10, TimeUnit.SECONDS);
+            assertTrue(queue.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testPollWithTimeoutReturnsNullWhenQueueStaysEmpty() throws InterruptedException {
+        ArrayRingQueue<Integer> queue = new ArrayRingQueue<>(4);
+
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+
+        queue.add(1);
+        assertEquals(1, queue.poll(10, TimeUnit.MILLISECONDS).intValue());
+    }
+
+    @Test
+    void testDrainToIntoThrowingCollection() {
+        assertDrainToIntoThrowingCollectionKeepsRemainingElements();
+    }
+}
@@ -0,0 +1,236 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentLinkedQueueTest extends QueueTest {
+    private static final int PRODUCERS = 4;
+    private static final int CONSUMERS = 4;
+    private static final int ELEMENTS_PER_PRODUCER = 100_000;
+
+    @Override
+    protected Queue<Integer> createQueue() {
+        return new ConcurrentLinkedQueue<>();
+    }
+
+    @Test
+    void testAddNullElement() {
+        assertThrows(NullPointerException.class, () -> new ConcurrentLinkedQueue<Integer>().add(null));
+    }
+
+    /**
+     * Each producer adds increasing sequence numbers tagged with producer id. Every element must be polled exactly
+     * once, and each consumer must see elements of the same producer in the order they were added.
+     */
+    @Test
+    void testConcurrentProducersAndConsumers() throws Exception {
+        Queue<Long> queue = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger polledCount = new AtomicInteger();
+        int total = PRODUCERS * ELEMENTS_PER_PRODUCER;
+        try {
+            for (int p = 0; p < PRODUCERS; p++) {
+                long producerId = p;
+                executor.submit(() -> {
+                    start.await();
+                    for (long i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                        queue.add(producerId << 32 | i);
+                    }
+                    return null;
+                });
+            }
+            List<Future<boolean[][]>> consumers = new ArrayList<>();
+            for (int c = 0; c < CONSUMERS; c++) {
+                consumers.add(executor.submit(() -> {
+                    start.await();
+                    boolean[][] seen = new boolean[PRODUCERS][ELEMENTS_PER_PRODUCER];
+                    long[] lastSequence = new long[PRODUCERS];
+                    Arrays.fill(lastSequence, -1);
+                    while (polledCount.get() < total) {
+                        Long element = queue.poll();
+                        if (element == null) {
+                            continue;
+                        }
+                        int producerId = (int) (element >>> 32);
+                        int sequence = (int) (long) element;
+                        assertTrue(sequence > lastSequence[producerId], "Elements of a producer are out of order");
+                        lastSequence[producerId] = sequence;
+                        seen[producerId][sequence] = true;
+                        polledCount.incrementAndGet();
+                    }
+                    return seen;
+                }));
+            }
+            start.countDown();
+
+            int[] timesSeen = new int[total];
+            for (Future<boolean[][]> consumer : consumers) {
+                boolean[][] seen = consumer.get(60, TimeUnit.SECONDS);
+                for (int p = 0; p < PRODUCERS; p++) {
+                    for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                        if (seen[p][i]) {
+                            timesSeen[p * ELEMENTS_PER_PRODUCER + i]++;
+                        }
+                    }
+                }
+            }
+            for (int count : timesSeen) {
+                assertEquals(1, count);
+            }
+            assertTrue(queue.isEmpty());
+            assertEquals(0, queue.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testConcurrentBatchProducersAndConsumers() throws Exception {
+        Queue<Integer> queue = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+        int batchSize = 100;
+        int total = PRODUCERS * ELEMENTS_PER_PRODUCER;
+        AtomicInteger drainedCount = new AtomicInteger();
+        try {
+            for (int p = 0; p < PRODUCERS; p++) {
+                int producerId = p;
+                executor.submit(() -> {
+                    List<Integer> batch = new ArrayList<>(batchSize);
+                    for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                        batch.add(producerId * ELEMENTS_PER_PRODUCER + i);
+                        if (batch.size() == batchSize) {
+                            queue.addAll(batch);
+                            batch.clear();
+                        }
+                    }
+                    queue.addAll(batch);
+                });
+            }
+            List<Future<List<Integer>>> consumers = new ArrayList<>();
+            for (int c = 0; c < CONSUMERS; c++) {
+                consumers.add(executor.submit(() -> {
+                    List<Integer> drained = new ArrayList<>();
+                    while (drainedCount.get() < total) {
+                        drainedCount.addAndGet(queue.drainTo(drained, batchSize));
+                    }
+                    return drained;
+                }));
+            }
+
+            boolean[] seen = new boolean[total];
+            for (Future<List<Integer>> consumer : consumers) {
+                for (Integer element : consumer.get(60, TimeUnit.SECONDS)) {
+                    assertTrue(!seen[element], "Element is drained twice");
+                    seen[element] = true;
+                }
+            }
+            for (boolean elementSeen : seen) {
+                assertTrue(elementSeen);
+            }
+            assertTrue(queue.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testDrainToIntoThrowingCollection() {
+        assertDrainToIntoThrowingCollectionKeepsRemainingElements();
+    }
+
+    @Test
+    void testDrainToIntoThrowingCollectionLinksBatchBackBeforeRemainingElements() {
+        Queue<Integer> queue = new ConcurrentLinkedQueue<>();
+        queue.addAll(Arrays.asList(1, 2, 3, 4, 5));
+        List<Integer> drained = new ArrayList<>() {
+            @Override
+            public boolean add(Integer element) {
+                if (size() == 1) {
+                    throw new IllegalStateException();
+                }
+                return super.add(element);
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> queue.drainTo(drained, 3));
+        queue.add(6);
+
+        List<Integer> remaining = new ArrayList<>();
+        assertEquals(5, queue.drainTo(remaining, 10));
+        assertEquals(List.of(1), drained);
+        assertEquals(List.of(2, 3, 4, 5, 6), remaining);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testConcurrentDrainIntoThrowingCollections() throws Exception {
+        Queue<Integer> queue = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+        int total = PRODUCERS * ELEMENTS_PER_PRODUCER;
+        AtomicInteger drainedCount = new AtomicInteger();
+        Set<Integer> rejectedOnce = ConcurrentHashMap.newKeySet();
+        try {
+            for (int p = 0; p < PRODUCERS; p++) {
+                int producerId = p;
+                executor.submit(() -> {
+                    for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                        queue.add(producerId * ELEMENTS_PER_PRODUCER + i);
+                    }
+                });
+            }
+            List<Future<List<Integer>>> consumers = new ArrayList<>();
+            for (int c = 0; c < CONSUMERS; c++) {
+                consumers.add(executor.submit(() -> {
+                    List<Integer> drained = new ArrayList<>() {
+                        @Override
+                        public boolean add(Integer element) {
+                            if (element % 7 == 0 && rejectedOnce.add(element)) {
+                                throw new IllegalStateException();
+                            }
+                            drainedCount.incrementAndGet();
+                            return super.add(element);
+                        }
+                    };
+                    while (drainedCount.get() < total) {
+                        try {
+                            queue.drainTo(drained, 50);
+                        } catch (IllegalStateException ignored) {
+                            // the rejected element stays in the queue and is drained again later
+                        }
+                    }
+                    return drained;
+                }));
+            }
+
+            boolean[] seen = new boolean[total];
+            for (Future<List<Integer>> consumer : consumers) {
+                for (Integer element : consumer.get(60, TimeUnit.SECONDS)) {
+                    assertTrue(!seen[element], "Element is drained twice");
+                    seen[element] = true;
+                }
+            }
+            for (boolean elementSeen : seen) {
+                assertTrue(elementSeen);
+            }
+            assertTrue(queue.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
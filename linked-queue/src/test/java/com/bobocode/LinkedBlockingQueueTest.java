@@ -0,0 +1,130 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LinkedBlockingQueueTest extends QueueTest {
+
+    @Override
+    protected Queue<Integer> createQueue() {
+        return new LinkedBlockingQueue<>();
+    }
+
+    @Test
+    void testCreateQueueWithInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new LinkedBlockingQueue<>(0));
+    }
+
+    @Test
+    void testOfferToFullQueue() {
+        LinkedBlockingQueue<Integer> queue = new LinkedBlockingQueue<>(2);
+
+        assertTrue(queue.offer(1));
+        assertTrue(queue.offer(2));
+        assertFalse(queue.offer(3));
+        assertThrows(IllegalStateException.class, () -> queue.add(3));
+        assertThrows(IllegalStateException.class, () -> queue.addAll(List.of(3)));
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    void testAddNull() {
+        LinkedBlockingQueue<Integer> queue = new LinkedBlockingQueue<>();
+
+        assertThrows(NullPointerException.class, () -> queue.add(null));
+    }
+
+    @Test
+    void testPollWithTimeoutReturnsNullWhenQueueStaysEmpty() throws InterruptedException {
+        LinkedBlockingQueue<Integer> queue = new LinkedBlockingQueue<>();
+
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+
+        queue.add(1);
+        assertEquals(1, queue.poll(10, TimeUnit.MILLISECONDS).intValue());
+    }
+
+    @Test
+    void testDrainToFreesSpaceForBlockedProducer() throws Exception {
+        LinkedBlockingQueue<Integer> queue = new LinkedBlockingQueue<>(2);
+        queue.addAll(List.of(1, 2));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> producer = executor.submit(() -> {
+                queue.put(3);
+                return null;
+            });
+            List<Integer> drained = new ArrayList<>();
+
+            assertEquals(2, queue.drainTo(drained, 10));
+            producer.get(10, TimeUnit.SECONDS);
+            assertEquals(List.of(1, 2), drained);
+            assertEquals(3, queue.take().intValue());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testPutBlocksProducerUntilConsumerTakes() throws Exception {
+        LinkedBlockingQueue<Integer> queue = new LinkedBlockingQueue<>(4);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> producer = executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    queue.put(i);
+                }
+                return null;
+            });
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i, queue.take().intValue());
+                assertTrue(queue.size() <= 4);
+            }
+            producer.get(10, TimeUnit.SECONDS);
+            assertTrue(queue.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testDrainToIntoThrowingCollection() {
+        assertDrainToIntoThrowingCollectionKeepsRemainingElements();
+    }
+
+    @Test
+    void testDrainToIntoThrowingCollectionFreesSpace() {
+        LinkedBlockingQueue<Integer> queue = new LinkedBlockingQueue<>(3);
+        queue.addAll(Arrays.asList(1, 2, 3));
+        List<Integer> drained = new ArrayList<>() {
+            @Override
+            public boolean add(Integer element) {
+                if (size() == 1) {
+                    throw new IllegalStateException();
+                }
+                return super.add(element);
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> queue.drainTo(drained, 3));
+
+        assertEquals(2, queue.size());
+        assertTrue(queue.offer(4));
+        assertFalse(queue.offer(5));
+        assertEquals(Arrays.asList(2, 3, 4), Arrays.asList(queue.poll(), queue.poll(), queue.poll()));
+    }
+}
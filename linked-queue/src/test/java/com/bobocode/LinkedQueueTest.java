@@ -0,0 +1,16 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+public class LinkedQueueTest extends QueueTest {
+
+    @Override
+    protected Queue<Integer> createQueue() {
+        return new LinkedQueue<>();
+    }
+
+    @Test
+    void testDrainToIntoThrowingCollection() {
+        assertDrainToIntoThrowingCollectionKeepsRemainingElements();
+    }
+}
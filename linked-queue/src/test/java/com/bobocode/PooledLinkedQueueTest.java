@@ -0,0 +1,43 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PooledLinkedQueueTest extends QueueTest {
+
+    @Override
+    protected Queue<Integer> createQueue() {
+        return new LinkedQueue<>(2);
+    }
+
+    @Test
+    void testReuseNodesInSteadyState() {
+        Queue<Integer> queue = new LinkedQueue<>(16);
+
+        for (int i = 0; i < 1000; i++) {
+            queue.addAll(Arrays.asList(i, i + 1, i + 2));
+            assertEquals(i, queue.poll().intValue());
+            queue.drainTo(new ArrayList<>(), 1);
+            assertEquals(i + 2, queue.poll().intValue());
+            assertNull(queue.poll());
+        }
+
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void testCreateQueueWithNegativePoolSize() {
+        assertThrows(IllegalArgumentException.class, () -> new LinkedQueue<>(-1));
+    }
+
+    @Test
+    void testDrainToIntoThrowingCollection() {
+        assertDrainToIntoThrowingCollectionKeepsRemainingElements();
+    }
+}
@@ -0,0 +1,93 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PriorityQueueTest {
+
+    private PriorityQueue<Integer> integerQueue = new PriorityQueue<>(Comparator.naturalOrder());
+
+    @Test
+    void testPollFromEmptyQueue() {
+        assertNull(integerQueue.poll());
+        assertNull(integerQueue.peek());
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    void testPollLeastElement() {
+        integerQueue.add(324);
+        integerQueue.add(23);
+        integerQueue.add(5);
+        integerQueue.add(44);
+
+        assertEquals(4, integerQueue.size());
+        assertEquals(5, integerQueue.peek().intValue());
+        assertEquals(5, integerQueue.poll().intValue());
+        assertEquals(23, integerQueue.poll().intValue());
+        assertEquals(44, integerQueue.poll().intValue());
+        assertEquals(324, integerQueue.poll().intValue());
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    void testReversedComparator() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Comparator.reverseOrder());
+        queue.addAll(Arrays.asList(3, 9, 1));
+
+        assertEquals(9, queue.poll().intValue());
+        assertEquals(3, queue.poll().intValue());
+        assertEquals(1, queue.poll().intValue());
+    }
+
+    @Test
+    void testHeapify() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Arrays.asList(8, 3, 5, 1, 9, 2, 7), Comparator.naturalOrder());
+
+        List<Integer> polled = new ArrayList<>();
+        queue.drainTo(polled, 10);
+
+        assertEquals(Arrays.asList(1, 2, 3, 5, 7, 8, 9), polled);
+    }
+
+    @Test
+    void testRandomElementsMatchJavaPriorityQueue() {
+        java.util.PriorityQueue<Integer> expected = new java.util.PriorityQueue<>();
+        Random random = new Random(7);
+        List<Integer> initial = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            initial.add(random.nextInt(500));
+        }
+        PriorityQueue<Integer> queue = new PriorityQueue<>(initial, Comparator.naturalOrder());
+        expected.addAll(initial);
+
+        for (int i = 0; i < 10_000; i++) {
+            if (random.nextBoolean()) {
+                int element = random.nextInt(500);
+                queue.add(element);
+                expected.add(element);
+            } else {
+                assertEquals(expected.poll(), queue.poll());
+            }
+        }
+        while (!expected.isEmpty()) {
+            assertEquals(expected.poll(), queue.poll());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testAddNullElement() {
+        assertThrows(NullPointerException.class, () -> integerQueue.add(null));
+    }
+}
@@ -5,15 +5,27 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+/**
+ * {@link QueueTest} is a contract test of {@link Queue}. Each queue implementation has its own subclass that provides
+ * a way to create a queue.
+ */
 @TestMethodOrder( MethodOrderer.OrderAnnotation.class)
-public class QueueTest {
+public abstract class QueueTest {
+
+    private Queue<Integer> integerQueue = createQueue();
 
-    private Queue<Integer> integerQueue = new LinkedQueue<>();
+    protected abstract Queue<Integer> createQueue();
 
     @Test
     @Order(3)
@@ -103,4 +115,89 @@ public class QueueTest {
         assertEquals(0, integerQueue.size());
     }
 
+    @Test
+    @Order(9)
+    void testAddAll() {
+        integerQueue.add(1);
+        integerQueue.addAll(Arrays.asList(2, 3, 4));
+        integerQueue.add(5);
+
+        assertEquals(5, integerQueue.size());
+        for (int i = 1; i <= 5; i++) {
+            assertEquals(i, integerQueue.poll().intValue());
+        }
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    @Order(10)
+    void testAddAllEmptyCollection() {
+        integerQueue.addAll(Collections.emptyList());
+
+        assertTrue(integerQueue.isEmpty());
+        assertNull(integerQueue.poll());
+    }
+
+    @Test
+    @Order(11)
+    void testDrainTo() {
+        integerQueue.addAll(Arrays.asList(1, 2, 3, 4, 5));
+        List<Integer> drained = new ArrayList<>();
+
+        int count = integerQueue.drainTo(drained, 3);
+
+        assertEquals(3, count);
+        assertEquals(Arrays.asList(1, 2, 3), drained);
+        assertEquals(2, integerQueue.size());
+        assertEquals(4, integerQueue.poll().intValue());
+    }
+
+    @Test
+    @Order(12)
+    void testDrainToAllElements() {
+        integerQueue.addAll(Arrays.asList(1, 2));
+        List<Integer> drained = new ArrayList<>();
+
+        int count = integerQueue.drainTo(drained, 10);
+        integerQueue.add(3);
+
+        assertEquals(2, count);
+        assertEquals(Arrays.asList(1, 2), drained);
+        assertEquals(1, integerQueue.size());
+        assertEquals(3, integerQueue.poll().intValue());
+    }
+
+    @Test
+    @Order(13)
+    void testDrainToFromEmptyQueue() {
+        List<Integer> drained = new ArrayList<>();
+
+        assertEquals(0, integerQueue.drainTo(drained, 10));
+        assertTrue(drained.isEmpty());
+    }
+
+    /**
+     * Checks that elements rejected by a throwing collection stay in the queue, so the queue stays consistent.
+     */
+    protected void assertDrainToIntoThrowingCollectionKeepsRemainingElements() {
+        integerQueue.addAll(Arrays.asList(1, 2, 3, 4, 5));
+        List<Integer> drained = new ArrayList<>() {
+            @Override
+            public boolean add(Integer element) {
+                if (size() == 2) {
+                    throw new IllegalStateException();
+                }
+                return super.add(element);
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> integerQueue.drainTo(drained, 10));
+
+        assertEquals(Arrays.asList(1, 2), drained);
+        assertEquals(3, integerQueue.size());
+        assertEquals(3, integerQueue.poll().intValue());
+        assertEquals(4, integerQueue.poll().intValue());
+        assertEquals(5, integerQueue.poll().intValue());
+        assertTrue(integerQueue.isEmpty());
+    }
 }
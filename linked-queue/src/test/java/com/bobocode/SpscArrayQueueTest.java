@@ -0,0 +1,86 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SpscArrayQueueTest extends QueueTest {
+    private static final int ELEMENTS = 100_000;
+
+    @Override
+    protected Queue<Integer> createQueue() {
+        return new SpscArrayQueue<>(16);
+    }
+
+    @Test
+    void testOfferToFullQueue() {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(2);
+
+        assertTrue(queue.offer(1));
+        assertTrue(queue.offer(2));
+        assertFalse(queue.offer(3));
+        assertThrows(IllegalStateException.class, () -> queue.add(3));
+        assertEquals(1, queue.poll().intValue());
+        assertTrue(queue.offer(3));
+    }
+
+    @Test
+    void testDrainTo() {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(8);
+        for (int i = 0; i < 6; i++) {
+            queue.add(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+
+        int count = queue.drainTo(drained::add, 4);
+
+        assertEquals(4, count);
+        assertEquals(List.of(0, 1, 2, 3), drained);
+        assertEquals(2, queue.size());
+        assertEquals(2, queue.drainTo(drained::add, 10));
+        assertEquals(0, queue.drainTo(drained::add, 10));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testProducerAndConsumerThreads() throws Exception {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(1024);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> producer = executor.submit(() -> {
+                for (int i = 0; i < ELEMENTS; i++) {
+                    while (!queue.offer(i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+
+            int[] expected = {0};
+            while (expected[0] < ELEMENTS) {
+                int drained = queue.drainTo(element -> assertEquals(expected[0]++, element.intValue()), 100);
+                if (drained == 0) {
+                    Thread.yield();
+                }
+            }
+            producer.get(10, TimeUnit.SECONDS);
+            assertTrue(queue.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testDrainToIntoThrowingCollection() {
+        assertDrainToIntoThrowingCollectionKeepsRemainingElements();
+    }
+}